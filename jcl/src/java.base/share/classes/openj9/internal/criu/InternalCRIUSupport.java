@@ -99,6 +99,16 @@ public final class InternalCRIUSupport {
 		return checkpointRestoreNanoTimeDelta;
 	}
 
+	/**
+	 * Describe the registered checkpoint and restore hooks, along with
+	 * how long each of them took the last time it ran.
+	 *
+	 * @return a human readable report, one line per hook
+	 */
+	public static String getCheckpointHookTimings() {
+		return J9InternalCheckpointHookAPI.getHookTimings();
+	}
+
 	/**
 	 * Retrieve the time when the last restore occurred. In the case of multiple
 	 * restores the previous times are overwritten.
@@ -97,6 +97,10 @@ final class J9InternalCheckpointHookAPI {
 			}
 
 			hookWrapper.runHook();
+
+			if (debug) {
+				System.err.println("[" + hookWrapper.getName() + "] took " + (hookWrapper.getLastDurationNanos() / 1000) + " us"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
 		}
 	}
 
@@ -124,24 +128,69 @@ final class J9InternalCheckpointHookAPI {
 		runHooks(postRestoreHooksConcurrentThread, false);
 	}
 
+	private static void appendHookTimings(StringBuilder builder, String title, List<J9InternalCheckpointHook> hooks) {
+		/* Copy without locking, hooks may be running while other threads are halted. */
+		Object[] hooksCopy = hooks.toArray();
+		builder.append(title).append(" (").append(hooksCopy.length).append(" hooks)").append(System.lineSeparator()); //$NON-NLS-1$ //$NON-NLS-2$
+		for (Object hook : hooksCopy) {
+			J9InternalCheckpointHook hookWrapper = (J9InternalCheckpointHook) hook;
+			long durationNanos = hookWrapper.getLastDurationNanos();
+			builder.append("  ").append(hookWrapper.getName()).append(", priority ").append(hookWrapper.getHookPriority()); //$NON-NLS-1$ //$NON-NLS-2$
+			if (durationNanos < 0) {
+				builder.append(": not run"); //$NON-NLS-1$
+			} else {
+				builder.append(": ").append(durationNanos / 1000).append(" us"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			builder.append(System.lineSeparator());
+		}
+	}
+
+	/**
+	 * Describe the registered hooks and how long each took the last time it ran.
+	 *
+	 * @return a human readable report, one line per hook
+	 */
+	static String getHookTimings() {
+		StringBuilder builder = new StringBuilder();
+		appendHookTimings(builder, "Pre-checkpoint hooks, single-threaded mode", preCheckpointHooksSingleThread); //$NON-NLS-1$
+		appendHookTimings(builder, "Pre-checkpoint hooks, concurrent mode", preCheckpointHooksConcurrentThread); //$NON-NLS-1$
+		appendHookTimings(builder, "Post-restore hooks, single-threaded mode", postRestoreHooksSingleThread); //$NON-NLS-1$
+		appendHookTimings(builder, "Post-restore hooks, concurrent mode", postRestoreHooksConcurrentThread); //$NON-NLS-1$
+		return builder.toString();
+	}
+
 	final private static class J9InternalCheckpointHook implements Comparable<J9InternalCheckpointHook> {
 
 		private final InternalCRIUSupport.HookMode hookMode;
 		private final int priority;
 		private final Runnable hook;
 		private final String name;
+		private volatile long lastDurationNanos = -1;
 
 		int getHookPriority() {
 			return priority;
 		}
 
+		String getName() {
+			return name;
+		}
+
+		long getLastDurationNanos() {
+			return lastDurationNanos;
+		}
+
 		@Override
 		public int compareTo(J9InternalCheckpointHook o) {
 			return o.getHookPriority() - this.getHookPriority();
 		}
 
 		void runHook() {
-			hook.run();
+			long startNanos = System.nanoTime();
+			try {
+				hook.run();
+			} finally {
+				lastDurationNanos = System.nanoTime() - startNanos;
+			}
 		}
 
 		J9InternalCheckpointHook(InternalCRIUSupport.HookMode hookMode, int priority, String name, Runnable hook) {
@@ -35,9 +35,9 @@ import java.util.function.Function;
 
 import com.ibm.oti.vm.VM;
 
-/*[IF CRAC_SUPPORT]*/
+/*[IF CRIU_SUPPORT]*/
 import openj9.internal.criu.InternalCRIUSupport;
-/*[ENDIF] CRAC_SUPPORT */
+/*[ENDIF] CRIU_SUPPORT */
 import openj9.internal.management.ClassLoaderInfoBaseImpl;
 import openj9.management.internal.IDCacheInitializer;
 import openj9.management.internal.InvalidDumpOptionExceptionBase;
@@ -118,6 +118,13 @@ public class DiagnosticUtils {
 	private static final String DIAGNOSTICS_JDK_CHECKPOINT = "JDK.checkpoint";
 /*[ENDIF] CRAC_SUPPORT */
 
+/*[IF CRIU_SUPPORT]*/
+	/**
+	 * Report the registered checkpoint/restore hooks and their last run times.
+	 */
+	private static final String DIAGNOSTICS_CHECKPOINT_HOOKS = "Checkpoint.hooks";
+/*[ENDIF] CRIU_SUPPORT */
+
 	/**
 	 * Run System.gc();
 	 */
@@ -128,6 +135,11 @@ public class DiagnosticUtils {
 	 */
 	private static final String DIAGNOSTICS_GC_CLASS_HISTOGRAM = "GC.class_histogram";
 
+	/**
+	 * Get the allocation sites recorded by the allocation site sampler.
+	 */
+	private static final String DIAGNOSTICS_GC_ALLOCATION_SITES = "GC.allocation_sites";
+
 	/**
 	 * Commands to generate dumps of various types
 	 */
@@ -214,6 +226,7 @@ public class DiagnosticUtils {
 	}
 
 	private static native String getHeapClassStatisticsImpl();
+	private static native String getAllocationSitesImpl();
 	private static native String triggerDumpsImpl(String dumpOptions, String event) throws InvalidDumpOptionExceptionBase;
 
 	/**
@@ -521,6 +534,22 @@ public class DiagnosticUtils {
 	private static native ThreadInfoBase[] dumpAllThreadsImpl(boolean lockedMonitors,
 			boolean lockedSynchronizers, int maxDepth);
 
+	private static DiagnosticProperties getAllocationSites(String diagnosticCommand) {
+		DiagnosticProperties result = null;
+		if (diagnosticCommand.split(DIAGNOSTICS_OPTION_SEPARATOR).length > 1) {
+			result = DiagnosticProperties.makeErrorProperties("Command not recognized: " + diagnosticCommand);
+		} else {
+			String sites = getAllocationSitesImpl();
+			String lineSeparator = System.lineSeparator();
+			final String unixLineSeparator = "\n";
+			if (!unixLineSeparator.equals(lineSeparator)) {
+				sites = sites.replace(unixLineSeparator, lineSeparator);
+			}
+			result = DiagnosticProperties.makeStringResult(sites);
+		}
+		return result;
+	}
+
 	private static DiagnosticProperties runGC() {
 		VM.globalGC();
 		return DiagnosticProperties.makeCommandSucceeded();
@@ -594,6 +623,12 @@ public class DiagnosticUtils {
 	}
 /*[ENDIF] CRAC_SUPPORT */
 
+/*[IF CRIU_SUPPORT]*/
+	private static DiagnosticProperties getCheckpointHooks(String diagnosticCommand) {
+		return DiagnosticProperties.makeStringResult(InternalCRIUSupport.getCheckpointHookTimings());
+	}
+/*[ENDIF] CRIU_SUPPORT */
+
 	/* Help strings for the jcmd utilities */
 	private static final String DIAGNOSTICS_HELP_HELP = "Show help for a command%n"
 			+ FORMAT_PREFIX + " help <command>%n"
@@ -606,6 +641,10 @@ public class DiagnosticUtils {
 			+ "         live : include all objects after a global GC collection%n"
 			+ "NOTE: this utility might significantly affect the performance of the target VM.%n";
 
+	private static final String DIAGNOSTICS_GC_ALLOCATION_SITES_HELP = "List the allocation sites recorded by the allocation site sampler.%n"
+			+ FORMAT_PREFIX + DIAGNOSTICS_GC_ALLOCATION_SITES + "%n"
+			+ " Sites are only recorded if the target VM was started with -Xgc:allocationSiteSampling[=<bytes>].%n";
+
 	private static final String DIAGNOSTICS_GC_RUN_HELP = "Run the garbage collector.%n"
 			+ FORMAT_PREFIX + DIAGNOSTICS_GC_RUN + "%n"
 			+ "NOTE: this utility might significantly affect the performance of the target VM.%n";
@@ -642,6 +681,11 @@ public class DiagnosticUtils {
 			+ "NOTE: this utility might significantly affect the performance of the target VM.%n";
 /*[ENDIF] CRAC_SUPPORT */
 
+/*[IF CRIU_SUPPORT]*/
+	private static final String DIAGNOSTICS_CHECKPOINT_HOOKS_HELP = "List the checkpoint and restore hooks and how long each took when it last ran.%n"
+			+ FORMAT_PREFIX + DIAGNOSTICS_CHECKPOINT_HOOKS + "%n";
+/*[ENDIF] CRIU_SUPPORT */
+
 /*[IF JFR_SUPPORT]*/
 	private static final String DIAGNOSTICS_JFR_START_HELP = "Start a new Recording%n%n"
 			+ SYNTAX_PREFIX + DIAGNOSTICS_JFR_START + JFR_START_OPTION_HELP;
@@ -665,6 +709,9 @@ public class DiagnosticUtils {
 		commandTable.put(DIAGNOSTICS_GC_CLASS_HISTOGRAM, DiagnosticUtils::getHeapStatistics);
 		helpTable.put(DIAGNOSTICS_GC_CLASS_HISTOGRAM, DIAGNOSTICS_GC_CLASS_HISTOGRAM_HELP);
 
+		commandTable.put(DIAGNOSTICS_GC_ALLOCATION_SITES, DiagnosticUtils::getAllocationSites);
+		helpTable.put(DIAGNOSTICS_GC_ALLOCATION_SITES, DIAGNOSTICS_GC_ALLOCATION_SITES_HELP);
+
 		commandTable.put(DIAGNOSTICS_GC_RUN, s -> runGC());
 		helpTable.put(DIAGNOSTICS_GC_RUN, DIAGNOSTICS_GC_RUN_HELP);
 
@@ -699,6 +746,13 @@ public class DiagnosticUtils {
 		}
 /*[ENDIF] CRAC_SUPPORT */
 
+/*[IF CRIU_SUPPORT]*/
+		if (InternalCRIUSupport.isCRaCorCRIUSupportEnabled()) {
+			commandTable.put(DIAGNOSTICS_CHECKPOINT_HOOKS, DiagnosticUtils::getCheckpointHooks);
+			helpTable.put(DIAGNOSTICS_CHECKPOINT_HOOKS, DIAGNOSTICS_CHECKPOINT_HOOKS_HELP);
+		}
+/*[ENDIF] CRIU_SUPPORT */
+
 /*[IF JFR_SUPPORT]*/
 		if (VM.isJFREnabled()) {
 			commandTable.put(DIAGNOSTICS_JFR_START, DiagnosticUtils::doJFR);
@@ -172,6 +172,22 @@ public class GarbageCollectorMXBeanImpl
 		return this.getTotalCompactsImpl(id);
 	}
 
+	/**
+	 * Returns the mutator utilization histogram of the metronome garbage collector
+	 * since the virtual machine was started.
+	 *
+	 * @return the number of quanta in each utilization bucket
+	 * @see #getMutatorUtilizationHistogram()
+	 */
+	private native long[] getMutatorUtilizationHistogramImpl();
+
+	/**
+	 * To satisfy com.ibm.lang.management.GarbageCollectorMXBean.
+	 */
+	public final long[] getMutatorUtilizationHistogram() {
+		return this.getMutatorUtilizationHistogramImpl();
+	}
+
 	/**
 	 * To satisfy com.ibm.lang.management.GarbageCollectorMXBean.
 	 */
@@ -892,6 +892,36 @@ public class MemoryMXBeanImpl extends LazyDelegatingNotifier implements MemoryMX
 		return getCurrentGCThreadsImpl();
 	}
 
+	/**
+	 * Returns the number of objects processed by the finalizer since the VM started.
+	 *
+	 * @return number of objects finalized
+	 * @see #getObjectFinalizedCount()
+	 */
+	private native long getObjectFinalizedCountImpl();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getObjectFinalizedCount() {
+		return getObjectFinalizedCountImpl();
+	}
+
+	/**
+	 * Returns the number of bytes of free heap released because of container memory pressure.
+	 *
+	 * @return number of bytes released
+	 * @see #getMemoryPressureReleasedBytes()
+	 */
+	private native long getMemoryPressureReleasedBytesImpl();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getMemoryPressureReleasedBytes() {
+		return getMemoryPressureReleasedBytesImpl();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -71,4 +71,16 @@ public interface GarbageCollectorMXBean extends
 	 * @return number of compacts performed
 	 */
 	public long getTotalCompacts();
+
+	/**
+	 * Returns the mutator utilization histogram of the metronome garbage collector
+	 * since the virtual machine was started. Each entry counts the collection quanta
+	 * which ended with the mutator utilization in that bucket. The buckets are of
+	 * equal width from 0% to 100%, starting with the lowest utilization.
+	 *
+	 * @return the number of quanta in each utilization bucket, an empty array
+	 * if the garbage collection policy is not metronome
+	 * @since 26
+	 */
+	public long[] getMutatorUtilizationHistogram();
 }
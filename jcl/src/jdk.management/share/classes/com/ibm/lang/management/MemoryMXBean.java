@@ -322,4 +322,25 @@ public interface MemoryMXBean extends java.lang.management.MemoryMXBean {
 	 * @return number of active GC worker threads
 	 */
 	public int getCurrentGCThreads();
+
+	/**
+	 * Returns the number of objects processed by the finalizer since the VM started.
+	 * Objects are counted the same way as by {@link #getObjectPendingFinalizationCount()},
+	 * so sampling both shows how quickly the finalization queue is draining.
+	 *
+	 * @return number of objects finalized
+	 * @since 26
+	 */
+	public long getObjectFinalizedCount();
+
+	/**
+	 * Returns the number of bytes of free heap released to the operating system
+	 * because of container memory pressure since the VM started.
+	 * Releases are enabled by -XXgc:gcOnMemoryPressureThreshold=&lt;percent&gt;,
+	 * which is supported with -Xgcpolicy:gencon only.
+	 *
+	 * @return number of bytes released, 0 if releasing on memory pressure is not enabled
+	 * @since 26
+	 */
+	public long getMemoryPressureReleasedBytes();
 }
@@ -35,8 +35,6 @@ import java.io.StringWriter;
 import java.lang.reflect.Modifier;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -59,7 +57,7 @@ import com.ibm.java.diagnostics.utils.commands.CommandException;
 import com.ibm.java.diagnostics.utils.plugins.DTFJPlugin;
 import com.ibm.jvm.dtfjview.heapdump.HeapDumpFormatter;
 import com.ibm.jvm.dtfjview.heapdump.HeapDumpSettings;
-import com.ibm.jvm.dtfjview.heapdump.LongListReferenceIterator;
+import com.ibm.jvm.dtfjview.heapdump.LongBufferReferenceIterator;
 import com.ibm.jvm.dtfjview.heapdump.ReferenceIterator;
 import com.ibm.jvm.dtfjview.heapdump.classic.ClassicHeapDumpFormatter;
 import com.ibm.jvm.dtfjview.heapdump.portable.PortableHeapDumpFormatter;
@@ -96,6 +94,12 @@ public class HeapdumpCommand extends BaseJdmpviewCommand
 	private int _numberOfErrors = 0;
 	private boolean _verbose = false;
 	private boolean _is32BitHash;
+	/**
+	 * Reference buffer reused for every class and object written, so walking a large
+	 * heap does not allocate a list of boxed references per object. The formatters
+	 * consume the references before returning, so a single buffer is sufficient.
+	 */
+	private final LongBufferReferenceIterator _references = new LongBufferReferenceIterator(64);
 
 	{
 		addCommand(COMMAND_NAME, "", DESCRIPTION);
@@ -520,7 +524,8 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 	 */
 	private ReferenceIterator getClassReferences(JavaClass thisJavaClass)
 	{
-		List references = new LinkedList();
+		LongBufferReferenceIterator references = _references;
+		references.clear();
 
 		try {
 			// Class object instance references
@@ -537,14 +542,14 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 				if (cpObject instanceof JavaClass) {
 					// Found a class reference, add it to the list
 					JavaClass cpJavaClass = (JavaClass)cpObject;
-					references.add(Long.valueOf(cpJavaClass.getObject().getID().getAddress()));
+					references.add(cpJavaClass.getObject().getID().getAddress());
 				}
 			}
 
 			// Superclass references
 			JavaClass superClass = thisJavaClass.getSuperclass();
 			while (null != superClass){
-				references.add(Long.valueOf(superClass.getObject().getID().getAddress()));
+				references.add(superClass.getObject().getID().getAddress());
 				superClass = superClass.getSuperclass();
 			}
 
@@ -554,7 +559,7 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 			if(loader != null) {
 				JavaObject loaderObject = loader.getObject();
 				if(loaderObject != null) {
-					references.add(Long.valueOf(loaderObject.getID().getAddress()));
+					references.add(loaderObject.getID().getAddress());
 				} else {
 					reportError("Null loader object returned for class: " + thisJavaClass.getName() + "(" + thisJavaClass.getID() + ")",null);
 					_numberOfErrors++;
@@ -569,19 +574,19 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 			_numberOfErrors++;
 		}
 
-		return new LongListReferenceIterator(references);
+		return references;
 	}
 
 	private long pdSkipCount = 0;
 
 	private void addProtectionDomainReference(JavaClass thisJavaClass,
-			List references) throws CorruptDataException, MemoryAccessException
+			LongBufferReferenceIterator references) throws CorruptDataException, MemoryAccessException
 
 	{
 		try {
 			JavaObject protectionDomain = thisJavaClass.getProtectionDomain();
 			if(protectionDomain != null) {
-				references.add(Long.valueOf(protectionDomain.getID().getAddress()));
+				references.add(protectionDomain.getID().getAddress());
 			}
 		} catch (DataUnavailable e) {
 			//record that access to the protection domain was not possible
@@ -592,9 +597,9 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 	/**
 	 * Extracts static references from class
 	 * @param thisClass Class being examined
-	 * @param references List to add references to
+	 * @param references Buffer to add references to
 	 */
-	private void addStaticReferences(JavaClass thisClass, List references)
+	private void addStaticReferences(JavaClass thisClass, LongBufferReferenceIterator references)
 			throws CorruptDataException, MemoryAccessException
 	{
 		Iterator fieldsIt = thisClass.getDeclaredFields();
@@ -632,9 +637,9 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 			} else if (referent instanceof JavaObject) {
 				JavaObject referredObject = (JavaObject) referent;
 
-				references.add(Long.valueOf(referredObject.getID().getAddress()));
+				references.add(referredObject.getID().getAddress());
 			} else if (referent == null) {
-				references.add(Long.valueOf(0));
+				references.add(0);
 			} else if (referent instanceof Number || referent instanceof Boolean || referent instanceof Character) {
 				//Ignore
 			} else {
@@ -658,7 +663,8 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 	 */
 	private ReferenceIterator getObjectReferences(JavaObject thisObject)
 	{
-		List<Long> references = new LinkedList<Long>();
+		LongBufferReferenceIterator references = _references;
+		references.clear();
 
 		try {
 			addReferences(thisObject, references);
@@ -674,29 +680,23 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 				 * <p>
 				 * See CMVC 193691
 				 */
-				Long[] refsAsArray = references.toArray(new Long[0]); // Java idiom to dump a list to an array
-				references.clear();
-
-				for (int i = refsAsArray.length - 1; i >= 0; i--) {
-					references.add(refsAsArray[i]);
-				}
+				references.reverse();
 			}
 		} catch(DTFJException ex) {
 			_numberOfErrors++;
 			reportError(null,ex);
 		}
 
-		return new LongListReferenceIterator(references);
+		return references;
 	}
 
 	/**
 	 * Extracts the instance references from an object
 	 * @param object Object being walked
-	 * @param references List<Long> to add references to
-	 * @param thisClass Class of object
+	 * @param references Buffer to add references to
 	 */
 	private void addReferences(JavaObject object,
-			List<Long> references) throws CorruptDataException,
+			LongBufferReferenceIterator references) throws CorruptDataException,
 			MemoryAccessException
 	{
 		Iterator it = object.getReferences();
@@ -746,9 +746,9 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 				}
 				// the following ugliness is necessary as JavaObject and JavaClass both support getID() but do not inherit from a common parent
 				if (target instanceof JavaObject) {
-					references.add(Long.valueOf(((JavaObject) target).getID().getAddress()));
+					references.add(((JavaObject) target).getID().getAddress());
 				} else if (target instanceof JavaClass) {
-					references.add(Long.valueOf(((JavaClass) target).getID().getAddress()));
+					references.add(((JavaClass) target).getID().getAddress());
 				} else {
 					_numberOfErrors++;
 					reportError("Object of unexpected type "
@@ -42,7 +42,12 @@ public class LongArrayReferenceIterator implements ReferenceIterator
 
 	public Long next()
 	{
-		Long toReturn = Long.valueOf(_fields[_index]);
+		return Long.valueOf(nextLong());
+	}
+
+	public long nextLong()
+	{
+		long toReturn = _fields[_index];
 
 		_index++;
 
@@ -0,0 +1,103 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.jvm.dtfjview.heapdump;
+
+import java.util.Arrays;
+
+/**
+ * Reference iterator backed by a growable array of primitive longs.
+ *
+ * Intended to be refilled for every object written so that walking a large heap
+ * does not allocate a list of boxed references per object. Formatters consume
+ * the references before returning, so the buffer can be cleared and reused
+ * once the record has been written.
+ */
+public class LongBufferReferenceIterator implements ReferenceIterator
+{
+	private long[] _buffer;
+	private int _length = 0;
+	private int _index = 0;
+
+	public LongBufferReferenceIterator(int initialCapacity)
+	{
+		_buffer = new long[Math.max(initialCapacity, 1)];
+	}
+
+	/**
+	 * Appends a reference to the buffer, growing it if necessary.
+	 */
+	public void add(long reference)
+	{
+		if (_length == _buffer.length) {
+			_buffer = Arrays.copyOf(_buffer, _length * 2);
+		}
+		_buffer[_length] = reference;
+		_length++;
+	}
+
+	/**
+	 * Empties the buffer without releasing its storage.
+	 */
+	public void clear()
+	{
+		_length = 0;
+		_index = 0;
+	}
+
+	/**
+	 * Reverses the order of the references currently in the buffer.
+	 */
+	public void reverse()
+	{
+		for (int i = 0, j = _length - 1; i < j; i++, j--) {
+			long tmp = _buffer[i];
+			_buffer[i] = _buffer[j];
+			_buffer[j] = tmp;
+		}
+	}
+
+	public boolean hasNext()
+	{
+		return _index < _length;
+	}
+
+	public Long next()
+	{
+		return Long.valueOf(nextLong());
+	}
+
+	public long nextLong()
+	{
+		long toReturn = _buffer[_index];
+
+		_index++;
+
+		return toReturn;
+	}
+
+	public void reset()
+	{
+		_index = 0;
+	}
+
+}
@@ -44,6 +44,14 @@ public interface ReferenceIterator
 	 */
 	public Long next();
 
+	/**
+	 * Same as next(), without boxing the reference.
+	 * Only valid when hasNext() is true.
+	 *
+	 * @return Next reference
+	 */
+	public long nextLong();
+
 	/**
 	 * Resets the iterator back to the start of the
 	 * structure it is iterating. Iterator will behave
@@ -195,6 +195,16 @@ public class ClassicHeapDumpFormatter extends HeapDumpFormatter
 				}
 			}
 
+			public long nextLong()
+			{
+				if(_returnedExtra) {
+					return original.nextLong();
+				} else {
+					_returnedExtra = true;
+					return extra;
+				}
+			}
+
 			public void reset()
 			{
 				original.reset();
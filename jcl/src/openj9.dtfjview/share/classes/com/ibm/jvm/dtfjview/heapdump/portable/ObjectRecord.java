@@ -100,7 +100,7 @@ public abstract class ObjectRecord extends PortableHeapDumpRecord
 		references.reset();
 
 		while(references.hasNext()) {
-			references.next();
+			references.nextLong();
 			count++;
 		}
 
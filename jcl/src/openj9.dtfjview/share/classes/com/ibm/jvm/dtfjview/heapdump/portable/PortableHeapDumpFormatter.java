@@ -168,19 +168,22 @@ public class PortableHeapDumpFormatter extends HeapDumpFormatter
 		return new ReferenceIterator()
 		{
 
-			private Long next;
+			private boolean _hasNext;
+
+			private long _next;
 
 			public boolean hasNext()
 			{
-				while(next == null && input.hasNext()) {
-					Long potential = input.next();
+				while(!_hasNext && input.hasNext()) {
+					long potential = input.nextLong();
 
-					if(potential.longValue() != 0) {
-						next = potential;
+					if(potential != 0) {
+						_next = potential;
+						_hasNext = true;
 					}
 				}
 
-				return next != null;
+				return _hasNext;
 			}
 
 			public Long next()
@@ -189,16 +192,21 @@ public class PortableHeapDumpFormatter extends HeapDumpFormatter
 					return null;
 				}
 
-				Long toReturn = next;
-				next = null;
+				return Long.valueOf(nextLong());
+			}
+
+			public long nextLong()
+			{
+				hasNext();
+				_hasNext = false;
 
-				return toReturn;
+				return _next;
 			}
 
 			public void reset()
 			{
 				input.reset();
-				next = null;
+				_hasNext = false;
 			}
 
 		};
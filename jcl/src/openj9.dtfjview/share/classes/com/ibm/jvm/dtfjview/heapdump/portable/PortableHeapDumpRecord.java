@@ -90,9 +90,7 @@ public abstract class PortableHeapDumpRecord
 		_numberOfReferences = 0;
 
 		while (references.hasNext()) {
-			Long thisRef = references.next();
-
-			byte thisSize = sizeofReference(thisRef.longValue());
+			byte thisSize = sizeofReference(references.nextLong());
 
 			if (thisSize > toReturn) {
 				toReturn = thisSize;
@@ -143,6 +141,11 @@ public abstract class PortableHeapDumpRecord
 				}
 			}
 
+			public long nextLong()
+			{
+				return getAddressDifference(input.nextLong(), base);
+			}
+
 			public void reset()
 			{
 				input.reset();
@@ -165,26 +168,22 @@ public abstract class PortableHeapDumpRecord
 		switch (_referenceFieldSize) {
 		case PortableHeapDumpRecord.ONE_BYTE_REF:
 			while (_references.hasNext()) {
-				Long thisRef = _references.next();
-				out.writeByte(thisRef.byteValue());
+				out.writeByte((byte) _references.nextLong());
 			}
 			break;
 		case PortableHeapDumpRecord.TWO_BYTE_REF:
 			while (_references.hasNext()) {
-				Long thisRef = _references.next();
-				out.writeShort(thisRef.shortValue());
+				out.writeShort((short) _references.nextLong());
 			}
 			break;
 		case PortableHeapDumpRecord.FOUR_BYTE_REF:
 			while (_references.hasNext()) {
-				Long thisRef = _references.next();
-				out.writeInt(thisRef.intValue());
+				out.writeInt((int) _references.nextLong());
 			}
 			break;
 		case PortableHeapDumpRecord.EIGHT_BYTE_REF:
 			while (_references.hasNext()) {
-				Long thisRef = _references.next();
-				out.writeLong(thisRef.longValue());
+				out.writeLong(_references.nextLong());
 			}
 			break;
 		default:
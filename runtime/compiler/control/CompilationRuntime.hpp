@@ -1284,6 +1284,7 @@ private:
    uint32_t               _statNumDowngradeInterpretedMethod;
    uint32_t               _statNumUpgradeJittedMethod;
    uint32_t               _statNumQueuePromotions;
+   uint32_t               _statNumCompThreadActivationsForQueueLatency; // activations because the queue head waited too long
    uint32_t               _statNumGCRInducedCompilations;
    uint32_t               _statNumSamplingJProfilingBodies;
    uint32_t               _statNumJProfilingBodies;
@@ -545,6 +545,29 @@ TR_YesNoMaybe TR::CompilationInfo::shouldActivateNewCompThread()
        getPersistentInfo()->getElapsedTime() < (uint64_t)getPersistentInfo()->getClassLoadingPhaseGracePeriod())
       return TR_no;
 
+   // Activate if the request at the head of the queue has been waiting longer than the
+   // latency target. The CPU entitlement and free memory limits have already been checked
+   // above; additionally, never go beyond 'numCpu-1' threads on this rule, whether the number
+   // of compilation threads was determined from the CPUs or given by the user.
+   bool allowQueueLatencyActivation = TR::Options::_compThreadActivationQueueLatencyThreshold > 0 &&
+      getNumCompThreadsActive() < getNumTargetCPUs() - 1;
+#if defined(J9VM_OPT_JITSERVER)
+   // A client the server asked to subdue activation only activates on the backlog schedule below
+   if (getCompThreadActivationPolicy() <= JITServer::CompThreadActivationPolicy::SUBDUE)
+      allowQueueLatencyActivation = false;
+#endif /* defined(J9VM_OPT_JITSERVER) */
+   if (allowQueueLatencyActivation &&
+       _methodQueue && _methodQueue->_entryTime != 0)
+      {
+      PORT_ACCESS_FROM_JITCONFIG(_jitConfig);
+      uintptr_t queueTime = j9time_usec_clock() - _methodQueue->_entryTime;
+      if (queueTime > (uintptr_t)TR::Options::_compThreadActivationQueueLatencyThreshold)
+         {
+         _statNumCompThreadActivationsForQueueLatency++;
+         return TR_yes;
+         }
+      }
+
    // Activate if the compilation backlog is large.
    // If there is no comp thread starvation or if the number of comp threads was
    // determined based on the number of CPUs, then the upper bound of comp threads is _numTargetCPUs-1
@@ -3542,6 +3565,8 @@ void TR::CompilationInfo::stopCompilationThreads()
       fprintf(stderr, "NumUpgradeJittedMethod=%u\n", _statNumUpgradeJittedMethod);
       fprintf(stderr, "NumQueuePromotions=%u\n", _statNumQueuePromotions);
       }
+   if (printCompStats && TR::Options::_compThreadActivationQueueLatencyThreshold > 0)
+      fprintf(stderr, "NumCompThreadActivationsForQueueLatency=%u\n", _statNumCompThreadActivationsForQueueLatency);
 
 #if defined(J9VM_OPT_JITSERVER)
    static char *printJITServerIPMsgStats = feGetEnv("TR_PrintJITServerIPMsgStats");
@@ -5052,7 +5077,8 @@ TR::CompilationInfo::addMethodToBeCompiled(TR::IlGeneratorMethodDetails & detail
          _intervalStats._numFirstTimeCompilationsInInterval++;
          _numQueuedFirstTimeCompilations++;
          }
-      if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerbosePerformance))
+      if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerbosePerformance) ||
+          TR::Options::_compThreadActivationQueueLatencyThreshold > 0)
          {
          PORT_ACCESS_FROM_JITCONFIG(_jitConfig);
          cur->_entryTime = j9time_usec_clock();
@@ -7034,7 +7060,8 @@ void TR::CompilationInfo::queueForcedAOTUpgrade(TR_MethodToBeCompiled *originalE
    methodInfo->setReasonForRecompilation(TR_PersistentMethodInfo::RecompDueToForcedAOTUpgrade);
    _statNumForcedAotUpgrades++;
 
-   if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerbosePerformance))
+   if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerbosePerformance) ||
+       TR::Options::_compThreadActivationQueueLatencyThreshold > 0)
       {
       PORT_ACCESS_FROM_JITCONFIG(_jitConfig);
       cur->_entryTime = j9time_usec_clock();
@@ -8368,6 +8395,19 @@ TR::CompilationInfoPerThreadBase::compile(J9VMThread * vmThread,
                                      aotCachedMethod, metaData,
                                      canDoRelocatableCompile, eligibleForRelocatableCompile,
                                      reloRuntime);
+
+      // The scratch memory reported on the compile end line is what is still held when the
+      // compilation finishes; large segments have usually been returned by then, so also
+      // report the high-water marks to show what the compilation actually needed
+      if (TR::Options::getVerboseOption(TR_VerbosePerformance) &&
+          !TR::Options::getCmdLineOptions()->getOption(TR_EnableScratchMemoryDebugging))
+         {
+         TR_VerboseLog::writeLineLocked(TR_Vlog_PERF, "j9method=%p scratch memory peak: region=%llu KB system=%llu KB limit=%llu KB",
+            method,
+            static_cast<unsigned long long>(defaultSegmentProvider.regionBytesAllocatedPeak())/1024,
+            static_cast<unsigned long long>(defaultSegmentProvider.systemBytesAllocatedPeak())/1024,
+            static_cast<unsigned long long>(defaultSegmentProvider.allocationLimit())/1024);
+         }
       }
    catch (const std::exception &e)
       {
@@ -13199,7 +13239,8 @@ TR::CompilationInfo::addOutOfProcessMethodToBeCompiled(JITServer::ServerStream *
       // This needs to be served as soon as possible, so we give it a higher priority
       CompilationPriority priority = (stream == LOAD_AOTCACHE_REQUEST) ? CP_SYNC_BELOW_MAX : CP_SYNC_NORMAL;
       entry->initialize(details, NULL, priority, NULL);
-      if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerbosePerformance))
+      if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerbosePerformance) ||
+          TR::Options::_compThreadActivationQueueLatencyThreshold > 0)
          {
          PORT_ACCESS_FROM_JITCONFIG(_jitConfig);
          entry->_entryTime = j9time_usec_clock();
@@ -4278,8 +4278,14 @@ void JitShutdown(J9JITConfig * jitConfig)
    // so the fact that this option is true doesn't mean that IProfiler structures were not allocated
    if (options /* && !options->getOption(TR_DisableInterpreterProfiling) */ && iProfiler)
       {
-      //if (options->getOption(TR_StoreIPInfoOnShutdown))
-      //   iProfiler->persistAllEntries();
+      if (TR::Options::_IprofilerPersistAllEntriesAtShutdown &&
+          !options->getOption(TR_DisablePersistIProfile) &&
+          iProfiler->isIProfilingEnabled()
+#if defined(J9VM_OPT_JITSERVER)
+          && TR::CompilationInfo::get(jitConfig)->getPersistentInfo()->getRemoteCompilationMode() != JITServer::SERVER
+#endif /* defined(J9VM_OPT_JITSERVER) */
+         )
+         iProfiler->persistAllEntries();
 
       printIprofilerStats(options, jitConfig, iProfiler, "Shutdown");
       // Prevent the interpreter to accumulate more info
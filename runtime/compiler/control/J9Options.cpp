@@ -126,6 +126,7 @@ int32_t J9::Options::_bigAppSampleThresholdAdjust = 3; //amount to shift the hot
 int32_t J9::Options::_availableCPUPercentage = 100;
 int32_t J9::Options::_cpuCompTimeExpensiveThreshold = 4000;
 uintptr_t J9::Options::_compThreadAffinityMask = 0;
+int32_t J9::Options::_compThreadActivationQueueLatencyThreshold = 0; // usec; 0 means disabled
 
 #if defined(J9VM_OPT_JITSERVER)
 int64_t J9::Options::_oldAge = 1000 * 60 * 90; // 90 minutes
@@ -185,6 +186,7 @@ int32_t J9::Options::_IprofilerOffSubtractionFactor = 500;
 int32_t J9::Options::_IprofilerOffDivisionFactor = 16;
 
 int32_t J9::Options::_IprofilerPreCheckpointDropRate = 0;
+bool J9::Options::_IprofilerPersistAllEntriesAtShutdown = false;
 
 
 int32_t J9::Options::_maxIprofilingCount = TR_DEFAULT_INITIAL_COUNT; // 3000
@@ -921,6 +923,10 @@ TR::OptionTable OMR::Options::_feOptions[] = {
    {"compilationYieldStatsThreshold=", "M<nnn>\tprint stats about compilation yield points if the "
                                        "threshold is exceeded. Default 1000 usec. ",
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_compYieldStatsThreshold, 0, "F%d", NOT_IN_SUBSET},
+   {"compThreadActivationQueueLatencyThreshold=", "M<nnn>\tActivate another compilation thread when the request at the head "
+                              "of the compilation queue has waited longer than this many usec. "
+                              "CPU entitlement and memory limits still apply. Default is 0 (disabled)",
+        TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_compThreadActivationQueueLatencyThreshold, 0, "F%d", NOT_IN_SUBSET},
    {"compThreadPriority=",    "M<nnn>\tThe priority of the compilation thread. "
                               "Use an integer between 0 and 4. Default is 4 (highest priority)",
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_compilationThreadPriorityCode, 0, "F%d", NOT_IN_SUBSET},
@@ -1065,6 +1071,9 @@ TR::OptionTable OMR::Options::_feOptions[] = {
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_IprofilerOffDivisionFactor, 0, "F%d", NOT_IN_SUBSET},
    {"iprofilerOffSubtractionFactor=", "O<nnn>\tCounts Subtraction factor when IProfiler is Off",
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_IprofilerOffSubtractionFactor, 0, "F%d", NOT_IN_SUBSET},
+   {"iprofilerPersistAllEntriesAtShutdown", "O\tstore the profile of every method whose class is in the shared class cache "
+                                            "at shutdown, not only of the methods compiled during this run",
+        TR::Options::setStaticBool, (intptr_t)&TR::Options::_IprofilerPersistAllEntriesAtShutdown, 1, "F%d", NOT_IN_SUBSET},
    {"iprofilerPreCheckpointDropRate=", "O<nnn>\tPercent*10 of buffers to drop precheckpoint",
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_IprofilerPreCheckpointDropRate, 0, "F%d", NOT_IN_SUBSET},
    {"iprofilerSamplesBeforeTurningOff=", "O<nnn>\tnumber of interpreter profiling samples "
@@ -269,6 +269,7 @@ class OMR_EXTENSIBLE Options : public OMR::OptionsConnector
    int32_t getCpuCompTimeExpensiveThreshold() { return _cpuCompTimeExpensiveThreshold; }
 
    static uintptr_t _compThreadAffinityMask;
+   static int32_t _compThreadActivationQueueLatencyThreshold; // usec; 0 means feature disabled
    static int32_t _interpreterSamplingThreshold;
    static int32_t _interpreterSamplingDivisor;
    static int32_t _interpreterSamplingThresholdInStartupMode;
@@ -301,6 +302,7 @@ class OMR_EXTENSIBLE Options : public OMR::OptionsConnector
    static int32_t _IprofilerOffDivisionFactor;
 
    static int32_t _IprofilerPreCheckpointDropRate;
+   static bool _IprofilerPersistAllEntriesAtShutdown; // store all IProfiler entries into the SCC at shutdown
 
    static int32_t _LoopyMethodSubtractionFactor;
    static int32_t _LoopyMethodDivisionFactor;
@@ -29,6 +29,8 @@ J9::SystemSegmentProvider::SystemSegmentProvider(size_t defaultSegmentSize, size
    _allocationLimit(allocationLimit),
    _systemBytesAllocated(0),
    _regionBytesAllocated(0),
+   _systemBytesAllocatedPeak(0),
+   _regionBytesAllocatedPeak(0),
    _systemSegmentAllocator(segmentAllocator),
    _systemSegments( SystemSegmentDequeAllocator(rawAllocator) ),
    _segments(std::less< TR::MemorySegment >(), SegmentSetAllocator(rawAllocator)),
@@ -57,6 +59,7 @@ J9::SystemSegmentProvider::SystemSegmentProvider(size_t defaultSegmentSize, size
       throw;
       }
    _systemBytesAllocated += _systemSegmentSize;
+   _systemBytesAllocatedPeak = _systemBytesAllocated;
    }
 
 J9::SystemSegmentProvider::~SystemSegmentProvider() throw()
@@ -125,6 +128,7 @@ J9::SystemSegmentProvider::request(size_t requiredSize)
       throw;
       }
    _systemBytesAllocated += systemSegmentSize;
+   _systemBytesAllocatedPeak = std::max(_systemBytesAllocatedPeak, _systemBytesAllocated);
 
    // Rounded size determines when the segment is released, see J9::SystemSegmentProvider::release
    if (!isLargeSegment(roundedSize))
@@ -231,6 +235,18 @@ J9::SystemSegmentProvider::bytesAllocated() const throw()
    return _regionBytesAllocated;
    }
 
+size_t
+J9::SystemSegmentProvider::systemBytesAllocatedPeak() const throw()
+   {
+   return _systemBytesAllocatedPeak;
+   }
+
+size_t
+J9::SystemSegmentProvider::regionBytesAllocatedPeak() const throw()
+   {
+   return _regionBytesAllocatedPeak;
+   }
+
 TR::MemorySegment &
 J9::SystemSegmentProvider::allocateNewSegment(size_t size, TR::reference_wrapper<J9MemorySegment> systemSegment)
    {
@@ -241,6 +257,7 @@ J9::SystemSegmentProvider::allocateNewSegment(size_t size, TR::reference_wrapper
       {
       TR::MemorySegment &newSegment = createSegmentFromArea(size, newSegmentArea);
       _regionBytesAllocated += size;
+      _regionBytesAllocatedPeak = std::max(_regionBytesAllocatedPeak, _regionBytesAllocated);
       return newSegment;
       }
    catch (...)
@@ -45,6 +45,8 @@ public:
    size_t systemBytesAllocated() const throw();
    size_t regionBytesAllocated() const throw();
    size_t bytesAllocated() const throw();
+   size_t systemBytesAllocatedPeak() const throw();
+   size_t regionBytesAllocatedPeak() const throw();
    size_t allocationLimit() const throw();
    void setAllocationLimit(size_t allocationLimit);
    bool isLargeSegment(size_t segmentSize);
@@ -60,6 +62,11 @@ private:
    size_t _allocationLimit;
    size_t _systemBytesAllocated;
    size_t _regionBytesAllocated;
+   // High-water marks of the two counters above. Large segments are returned as soon as
+   // their region goes out of scope, so the current values seen at the end of a
+   // compilation can be much lower than what the compilation actually needed.
+   size_t _systemBytesAllocatedPeak;
+   size_t _regionBytesAllocatedPeak;
    J9::J9SegmentProvider & _systemSegmentAllocator;
 
    typedef TR::typed_allocator<
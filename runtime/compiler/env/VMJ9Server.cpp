@@ -223,10 +223,11 @@ TR_J9ServerVM::getSystemClassFromClassName(const char * name, int32_t length, bo
    J9ClassLoader *cl = (J9ClassLoader *)getSystemClassLoader();
    std::string className(name, length);
    ClassLoaderStringPair key = {cl, className};
-   PersistentUnorderedMap<ClassLoaderStringPair, TR_OpaqueClassBlock*> & classBySignatureMap = _compInfoPT->getClientData()->getClassBySignatureMap();
+   ClientSessionData::ClassBySignatureMapShard &classBySignatureShard = _compInfoPT->getClientData()->getClassBySignatureMapShard(key);
+   PersistentUnorderedMap<ClassLoaderStringPair, TR_OpaqueClassBlock*> & classBySignatureMap = classBySignatureShard._map;
 
    {
-   OMR::CriticalSection getSystemClassCS(_compInfoPT->getClientData()->getClassMapMonitor());
+   ClientSessionData::ClassBySignatureMapCS getSystemClassCS(classBySignatureShard);
    auto it = classBySignatureMap.find(key);
    if (it != classBySignatureMap.end())
       return it->second;
@@ -237,7 +238,7 @@ TR_J9ServerVM::getSystemClassFromClassName(const char * name, int32_t length, bo
    TR_OpaqueClassBlock * clazz = std::get<0>(stream->read<TR_OpaqueClassBlock *>());
    if (clazz)
       {
-      OMR::CriticalSection getSystemClassCS(_compInfoPT->getClientData()->getClassMapMonitor());
+      ClientSessionData::ClassBySignatureMapCS getSystemClassCS(classBySignatureShard);
       classBySignatureMap[key] = clazz;
       }
    else
@@ -358,9 +359,10 @@ TR_J9ServerVM::getClassFromSignature(const char *sig, int32_t sigLength, J9Const
    auto cpClassLoader = (J9ClassLoader *)getClassLoader(cpClass);
 
    ClassLoaderStringPair key = {cpClassLoader, std::string(sig, sigLength)};
-   PersistentUnorderedMap<ClassLoaderStringPair, TR_OpaqueClassBlock *> & classBySignatureMap = _compInfoPT->getClientData()->getClassBySignatureMap();
+   ClientSessionData::ClassBySignatureMapShard &classBySignatureShard = _compInfoPT->getClientData()->getClassBySignatureMapShard(key);
+   PersistentUnorderedMap<ClassLoaderStringPair, TR_OpaqueClassBlock *> & classBySignatureMap = classBySignatureShard._map;
       {
-      OMR::CriticalSection classFromSigCS(_compInfoPT->getClientData()->getClassMapMonitor());
+      ClientSessionData::ClassBySignatureMapCS classFromSigCS(classBySignatureShard);
       auto it = classBySignatureMap.find(key);
       if (it != classBySignatureMap.end())
          return it->second;
@@ -391,7 +393,7 @@ TR_J9ServerVM::getClassFromSignature(const char *sig, int32_t sigLength, J9Const
             }
          }
 
-      OMR::CriticalSection classFromSigCS(_compInfoPT->getClientData()->getClassMapMonitor());
+      ClientSessionData::ClassBySignatureMapCS classFromSigCS(classBySignatureShard);
       classBySignatureMap[key] = clazz;
       }
    else
@@ -33,6 +33,8 @@ uint32_t CommunicationStream::CONFIGURATION_FLAGS = 0;
 
 uint32_t CommunicationStream::_msgTypeCount[] = {0};
 uint64_t CommunicationStream::_totalMsgSize = 0;
+uint64_t CommunicationStream::_msgTypeBytesReceived[] = {0};
+uint64_t CommunicationStream::_msgTypeBytesSent[] = {0};
 uint32_t CommunicationStream::_lastReadError = 0;
 uint32_t CommunicationStream::_numConsecutiveReadErrorsOfSameType = 0;
 #if defined(MESSAGE_SIZE_STATS)
@@ -116,6 +118,7 @@ CommunicationStream::readMessage(Message &msg)
    // Update message count and size statistics
    _msgTypeCount[msg.type()] += 1;
    _totalMsgSize += serializedSize;
+   _msgTypeBytesReceived[msg.type()] += serializedSize;
 #if defined(MESSAGE_SIZE_STATS)
    _msgSizeStats[msg.type()].update(serializedSize);
 #endif /* defined(MESSAGE_SIZE_STATS) */
@@ -127,6 +130,7 @@ CommunicationStream::writeMessage(Message &msg)
    char *serialMsg = msg.serialize();
    // write serialized message to the socket
    writeBlocking(serialMsg, msg.serializedSize());
+   _msgTypeBytesSent[msg.type()] += msg.serializedSize();
    msg.clearForWrite();
    }
 
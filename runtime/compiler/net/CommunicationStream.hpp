@@ -49,6 +49,8 @@ public:
 
    static uint32_t _msgTypeCount[MessageType::MessageType_MAXTYPE];
    static uint64_t _totalMsgSize;
+   static uint64_t _msgTypeBytesReceived[MessageType::MessageType_MAXTYPE];
+   static uint64_t _msgTypeBytesSent[MessageType::MessageType_MAXTYPE];
    static uint32_t _lastReadError;
    static uint32_t _numConsecutiveReadErrorsOfSameType;
    // The max read retry should be 1 less than the max compile attempt so we do
@@ -559,6 +559,16 @@ TR_VectorAPIExpansion::visitNodeToBuildVectorAliases(TR::Node *node, bool verify
 
             if (!canScalarize)
                {
+               // neither vectorized nor scalarized, the intrinsic stays a call into the Java implementation
+               if (TR::Options::getVerboseOption(TR_VerboseVectorAPI))
+                  {
+                  TR::Method *method = methodSymbol->getMethod();
+                  TR_VerboseLog::writeLine(TR_Vlog_VECTOR_API, "Not vectorized %.*s for %d x %s (%s) in %s at %s %s",
+                                           method->nameLength(), method->nameChars(),
+                                           methodNumLanes, TR::DataType::getName(methodElementType),
+                                           supportedOnPlatform(comp(), bitsLength) == TR::NoVectorLength ? "vector length not supported" : "operation not supported",
+                                           comp()->signature(), comp()->getHotnessName(comp()->getMethodHotness()), comp()->isDLT() ? "DLT" : "");
+                  }
                _aliasTable[methodRefNum]._cantScalarize = true;
 
                if (boxingAllowed())
@@ -5038,7 +5038,7 @@ TR_IProfiler::persistAllEntries()
 
                if (!invalidateEntryIfInconsistent(ipData))
                   {
-                  if (numEntries >= sizeof(ipEntries))
+                  if (numEntries >= sizeof(ipEntries) / sizeof(ipEntries[0]))
                      break; // stop here because we have too many entries for this method
                   // Check whether info can be persisted.
                   // Reasons for not being to include: locked entries, unloaded methods, target class not in SCC
@@ -936,3 +936,21 @@ J9::CodeCache::disclaim(TR::CodeCacheManager *manager, bool canDisclaimOnSwap)
 
    return disclaimDone;
    }
+
+
+void
+J9::CodeCache::getFreeBlockStats(size_t &numFreeBlocks, size_t &freeBlockBytes, size_t &largestFreeBlock)
+   {
+   numFreeBlocks = 0;
+   freeBlockBytes = 0;
+   largestFreeBlock = 0;
+
+   CacheCriticalSection walkFreeBlocks(self());
+   for (OMR::CodeCacheFreeCacheBlock *block = _freeBlockList; block; block = block->_next)
+      {
+      numFreeBlocks++;
+      freeBlockBytes += block->_size;
+      if (block->_size > largestFreeBlock)
+         largestFreeBlock = block->_size;
+      }
+   }
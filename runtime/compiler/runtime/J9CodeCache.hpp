@@ -105,6 +105,15 @@ public:
 
    int32_t disclaim(TR::CodeCacheManager *manager, bool canDisclaimOnSwap);
 
+  /**
+   * @brief Summarize the free block list of this code cache
+   *
+   * @param[out] numFreeBlocks : number of reclaimed blocks waiting to be reused
+   * @param[out] freeBlockBytes : total size (in bytes) of those blocks
+   * @param[out] largestFreeBlock : size (in bytes) of the largest of those blocks
+   */
+   void getFreeBlockStats(size_t &numFreeBlocks, size_t &freeBlockBytes, size_t &largestFreeBlock);
+
    private:
    /**
     * @brief Restore trampoline pointers to their initial positions
@@ -785,6 +785,7 @@ J9::CodeCacheManager::printMccStats()
    {
    self()->printRemainingSpaceInCodeCaches();
    self()->printOccupancyStats();
+   self()->printFragmentationStats();
    }
 
 
@@ -812,6 +813,22 @@ J9::CodeCacheManager::printOccupancyStats()
    }
 
 
+void
+J9::CodeCacheManager::printFragmentationStats()
+   {
+   CacheListCriticalSection scanCacheList(self());
+   for (TR::CodeCache *codeCache = self()->getFirstCodeCache(); codeCache; codeCache = codeCache->next())
+      {
+      size_t numFreeBlocks, freeBlockBytes, largestFreeBlock;
+      codeCache->getFreeBlockStats(numFreeBlocks, freeBlockBytes, largestFreeBlock);
+      // Fragmentation is the share of reclaimed space that cannot be handed out as one block
+      double fragmentation = freeBlockBytes ? (freeBlockBytes - largestFreeBlock) * 100.0 / freeBlockBytes : 0.0;
+      fprintf(stderr, "cache %p has %" OMR_PRIuSIZE " free blocks totalling %" OMR_PRIuSIZE " bytes, largest %" OMR_PRIuSIZE " bytes, fragmentation %5.2f%%\n",
+              codeCache, numFreeBlocks, freeBlockBytes, largestFreeBlock, fragmentation);
+      }
+   }
+
+
 int32_t
 J9::CodeCacheManager::disclaimAllCodeCaches()
    {
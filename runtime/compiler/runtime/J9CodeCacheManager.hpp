@@ -153,6 +153,11 @@ public:
     * @brief Print occupancy stats for each code cache
     */
    void printOccupancyStats();
+
+   /**
+    * @brief Print how fragmented the reclaimed space of each code cache is
+    */
+   void printFragmentationStats();
    bool isDisclaimEnabled() const { return _disclaimEnabled; }
    void setDisclaimEnabled(bool value)  { _disclaimEnabled = value; }
    int32_t disclaimAllCodeCaches();
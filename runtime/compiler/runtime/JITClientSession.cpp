@@ -43,7 +43,6 @@ ClientSessionData::ClientSessionData(uint64_t clientUID, uint32_t seqNo, TR_Pers
    _OOSequenceEntryList(NULL), _chTable(NULL),
    _romClassMap(decltype(_romClassMap)::allocator_type(persistentMemory->_persistentAllocator.get())),
    _J9MethodMap(decltype(_J9MethodMap)::allocator_type(persistentMemory->_persistentAllocator.get())),
-   _classBySignatureMap(decltype(_classBySignatureMap)::allocator_type(persistentMemory->_persistentAllocator.get())),
    _classChainDataMap(decltype(_classChainDataMap)::allocator_type(persistentMemory->_persistentAllocator.get())),
    _constantPoolToClassMap(decltype(_constantPoolToClassMap)::allocator_type(persistentMemory->_persistentAllocator.get())),
    _unloadedClassAddresses(NULL),
@@ -62,7 +61,8 @@ ClientSessionData::ClientSessionData(uint64_t clientUID, uint32_t seqNo, TR_Pers
    _inUse = 1;
    _numActiveThreads = 0;
    _romMapMonitor = TR::Monitor::create("JIT-JITServerROMMapMonitor");
-   _classMapMonitor = TR::Monitor::create("JIT-JITServerClassMapMonitor");
+   for (size_t i = 0; i < CLASS_BY_SIGNATURE_MAP_SHARDS; ++i)
+      _classBySignatureMapShards[i] = new (_persistentMemory) ClassBySignatureMapShard(_persistentMemory);
    _classChainDataMapMonitor = TR::Monitor::create("JIT-JITServerClassChainDataMapMonitor");
    _sequencingMonitor = TR::Monitor::create("JIT-JITServerSequencingMonitor");
    _cacheInitMonitor = TR::Monitor::create("JIT-JITServerCacheInitMonitor");
@@ -108,13 +108,20 @@ ClientSessionData::~ClientSessionData()
       }
 
    destroyMonitors();
+
+   for (size_t i = 0; i < CLASS_BY_SIGNATURE_MAP_SHARDS; ++i)
+      {
+      _classBySignatureMapShards[i]->~ClassBySignatureMapShard();
+      _persistentMemory->freePersistentMemory(_classBySignatureMapShards[i]);
+      }
    }
 
 void
 ClientSessionData::destroyMonitors()
    {
    TR::Monitor::destroy(_romMapMonitor);
-   TR::Monitor::destroy(_classMapMonitor);
+   for (size_t i = 0; i < CLASS_BY_SIGNATURE_MAP_SHARDS; ++i)
+      TR::Monitor::destroy(_classBySignatureMapShards[i]->_monitor);
    TR::Monitor::destroy(_classChainDataMapMonitor);
    TR::Monitor::destroy(_sequencingMonitor);
    TR::Monitor::destroy(_cacheInitMonitor);
@@ -211,7 +218,7 @@ ClientSessionData::processUnloadedClasses(const std::vector<TR_OpaqueClassBlock*
          //Class is cached, so retain the data to be used for purging the caches.
          unloadedClasses.push_back({ clazz, key, cp, true });
 
-         // For _classBySignatureMap entries that were cached by referencing class loader
+         // For class-by-signature cache entries that were cached by referencing class loader
          // we need to delete them using the correct class loader
          auto &classLoadersMap = it->second._referencingClassLoaders;
          for (auto it = classLoadersMap.begin(); it != classLoadersMap.end(); ++it)
@@ -258,10 +265,7 @@ ClientSessionData::processUnloadedClasses(const std::vector<TR_OpaqueClassBlock*
    }
 
    // purge Class by name cache
-   {
-   OMR::CriticalSection classMapCS(getClassMapMonitor());
-   purgeCache(&unloadedClasses, getClassBySignatureMap(), &ClassUnloadedData::_pair);
-   }
+   purgeClassBySignatureMapShards(unloadedClasses);
 
    // purge Constant pool to class cache
    {
@@ -386,6 +390,47 @@ ClientSessionData::printStats()
       total += it.second._romClass->romSize;
 
    j9tty_printf(PORTLIB, "\tTotal size of cached ROM classes + methods: %d bytes\n", total);
+
+   size_t numEntries = 0;
+   uint64_t numAcquisitions = 0;
+   uint64_t numContendedAcquisitions = 0;
+   uint64_t contendedWaitTimeUsec = 0;
+   for (size_t i = 0; i < CLASS_BY_SIGNATURE_MAP_SHARDS; ++i)
+      {
+      ClassBySignatureMapShard &shard = *_classBySignatureMapShards[i];
+      OMR::CriticalSection shardCS(shard._monitor);
+      numEntries += shard._map.size();
+      numAcquisitions += shard._numAcquisitions;
+      numContendedAcquisitions += shard._numContendedAcquisitions;
+      contendedWaitTimeUsec += shard._contendedWaitTimeUsec;
+      }
+   j9tty_printf(PORTLIB, "\tNum cached classes by signature: %d in %d shards\n", (int32_t)numEntries, (int32_t)CLASS_BY_SIGNATURE_MAP_SHARDS);
+   j9tty_printf(PORTLIB, "\tClass by signature cache lock acquisitions: %llu contended: %llu contended wait time: %llu usec\n",
+                numAcquisitions, numContendedAcquisitions, contendedWaitTimeUsec);
+   }
+
+ClientSessionData::ClassBySignatureMapShard::ClassBySignatureMapShard(TR_PersistentMemory *persistentMemory) :
+   _map(decltype(_map)::allocator_type(persistentMemory->_persistentAllocator.get())),
+   _monitor(TR::Monitor::create("JIT-JITServerClassMapMonitor")),
+   _numAcquisitions(0),
+   _numContendedAcquisitions(0),
+   _contendedWaitTimeUsec(0)
+   {
+   }
+
+void
+ClientSessionData::ClassBySignatureMapShard::enter()
+   {
+   // Only time the acquisition when the monitor is contended so that the common path stays cheap
+   if (_monitor->try_enter())
+      {
+      PORT_ACCESS_FROM_PORT(TR::Compiler->portLib);
+      uint64_t startTime = j9time_hires_clock();
+      _monitor->enter();
+      _numContendedAcquisitions++;
+      _contendedWaitTimeUsec += j9time_hires_delta(startTime, j9time_hires_clock(), J9PORT_TIME_DELTA_IN_MICROSECONDS);
+      }
+   _numAcquisitions++;
    }
 
 ClientSessionData::ClassInfo::ClassInfo(TR_PersistentMemory *persistentMemory) :
@@ -508,7 +553,8 @@ ClientSessionData::clearCaches(bool locked)
    TR_ASSERT(!_inUse || _sequencingMonitor->owned_by_self(), "Must have sequencing monitor");
    TR_ASSERT(_numActiveThreads == 0 || locked, "Must have no active threads when accessing without locks");
 
-   _classBySignatureMap.clear();
+   for (size_t i = 0; i < CLASS_BY_SIGNATURE_MAP_SHARDS; ++i)
+      _classBySignatureMapShards[i]->_map.clear();
 
    if (_unloadedClassAddresses)
       {
@@ -608,8 +654,9 @@ ClientSessionData::destroy(ClientSessionData *clientSession)
             kv.second.~J9MethodNameAndSignature();
          }
 
-      for (auto &it : clientSession->_classBySignatureMap)
-         it.first.~ClassLoaderStringPair();
+      for (size_t i = 0; i < CLASS_BY_SIGNATURE_MAP_SHARDS; ++i)
+         for (auto &it : clientSession->_classBySignatureMapShards[i]->_map)
+            it.first.~ClassLoaderStringPair();
       for (auto &it : clientSession->_registeredJ2IThunksMap)
          it.first.first.~basic_string();
       for (auto &it : clientSession->_registeredInvokeExactJ2IThunksSet)
@@ -690,6 +737,41 @@ void ClientSessionData::purgeCache(std::vector<ClassUnloadedData> *unloadedClass
       }
    }
 
+void
+ClientSessionData::purgeClassBySignatureMapShards(std::vector<ClassUnloadedData> &unloadedClasses)
+   {
+   for (auto &data : unloadedClasses)
+      {
+      if (data._cached)
+         {
+         ClassBySignatureMapShard &shard = getClassBySignatureMapShard(data._pair);
+         ClassBySignatureMapCS shardCS(shard);
+         shard._map.erase(data._pair);
+         }
+      else
+         {
+         // The class is not cached, so we do not know its key; delete the entry by value.
+         // Since the shard is selected by key, every shard has to be searched.
+         for (size_t i = 0; i < CLASS_BY_SIGNATURE_MAP_SHARDS; ++i)
+            {
+            ClassBySignatureMapShard &shard = *_classBySignatureMapShards[i];
+            ClassBySignatureMapCS shardCS(shard);
+            auto it = shard._map.begin();
+            for (; it != shard._map.end(); ++it)
+               {
+               if (it->second == data._class)
+                  break;
+               }
+            if (it != shard._map.end())
+               {
+               shard._map.erase(it);
+               break;
+               }
+            }
+         }
+      }
+   }
+
 void
 ClientSessionData::readAcquireClassUnloadRWMutex(TR::CompilationInfoPerThreadBase *compInfoPT)
    {
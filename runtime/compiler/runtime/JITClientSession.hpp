@@ -373,6 +373,45 @@ public:
       const AOTCacheClassChainRecord *_aotCacheClassChainRecord;
       };
 
+   /**
+    * @class ClassBySignatureMapShard
+    * @brief One shard of the <classLoader, signature> --> J9Class cache
+    *
+    * The class-by-signature cache is queried by every compilation thread serving the client,
+    * so it is split into CLASS_BY_SIGNATURE_MAP_SHARDS independently locked shards selected
+    * by the hash of the key. Each shard also counts how often its monitor was acquired and
+    * how often (and for how long) a thread had to wait for it.
+    */
+   struct ClassBySignatureMapShard
+      {
+      TR_PERSISTENT_ALLOC(TR_Memory::ClientSessionData)
+      ClassBySignatureMapShard(TR_PersistentMemory *persistentMemory);
+
+      void enter();
+      void exit() { _monitor->exit(); }
+
+      PersistentUnorderedMap<ClassLoaderStringPair, TR_OpaqueClassBlock *> _map;
+      TR::Monitor *_monitor;
+      uint64_t _numAcquisitions; // updated with _monitor in hand
+      uint64_t _numContendedAcquisitions; // updated with _monitor in hand
+      uint64_t _contendedWaitTimeUsec; // updated with _monitor in hand
+      };
+
+   /**
+    * @class ClassBySignatureMapCS
+    * @brief Critical section that enters and exits the monitor of a ClassBySignatureMapShard
+    */
+   class ClassBySignatureMapCS
+      {
+   public:
+      ClassBySignatureMapCS(ClassBySignatureMapShard &shard) : _shard(shard) { _shard.enter(); }
+      ~ClassBySignatureMapCS() { _shard.exit(); }
+   private:
+      ClassBySignatureMapShard &_shard;
+      };
+
+   static const size_t CLASS_BY_SIGNATURE_MAP_SHARDS = 16;
+
    TR_PERSISTENT_ALLOC(TR_Memory::ClientSessionData)
    ClientSessionData(uint64_t clientUID, uint32_t seqNo, TR_PersistentMemory *persistentMemory, bool usesPerClientMemory);
    ~ClientSessionData();
@@ -385,14 +424,16 @@ public:
    TR_PersistentCHTable *getCHTable();
    PersistentUnorderedMap<J9Class *, ClassInfo> &getROMClassMap() { return _romClassMap; }
    PersistentUnorderedMap<J9Method *, J9MethodInfo> &getJ9MethodMap() { return _J9MethodMap; }
-   PersistentUnorderedMap<ClassLoaderStringPair, TR_OpaqueClassBlock *> &getClassBySignatureMap() { return _classBySignatureMap; }
+   ClassBySignatureMapShard &getClassBySignatureMapShard(const ClassLoaderStringPair &key)
+      {
+      return *_classBySignatureMapShards[std::hash<ClassLoaderStringPair>()(key) % CLASS_BY_SIGNATURE_MAP_SHARDS];
+      }
    PersistentUnorderedMap<J9Class *, ClassChainData> &getClassChainDataMap() { return _classChainDataMap; }
    PersistentUnorderedMap<J9ConstantPool *, TR_OpaqueClassBlock *> &getConstantPoolToClassMap() { return _constantPoolToClassMap; }
    void initializeUnloadedClassAddrRanges(const std::vector<TR_AddressRange> &unloadedClassRanges, int32_t maxRanges);
    void processUnloadedClasses(const std::vector<TR_OpaqueClassBlock*> &classes, bool updateUnloadedClasses);
    void processIllegalFinalFieldModificationList(const std::vector<TR_OpaqueClassBlock*> &classes);
    TR::Monitor *getROMMapMonitor() { return _romMapMonitor; }
-   TR::Monitor *getClassMapMonitor() { return _classMapMonitor; }
    TR::Monitor *getClassChainDataMapMonitor() { return _classChainDataMapMonitor; }
    TR_IPBytecodeHashTableEntry *getCachedIProfilerInfo(TR_OpaqueMethodBlock *method, uint32_t byteCodeIndex, bool *methodInfoPresent);
    bool cacheIProfilerInfo(TR_OpaqueMethodBlock *method, uint32_t byteCodeIndex, TR_IPBytecodeHashTableEntry *entry, bool isCompiled);
@@ -518,6 +559,8 @@ public:
 
 private:
    void destroyMonitors();
+   // Removes the entries of unloaded classes from all the shards of the class-by-signature cache
+   void purgeClassBySignatureMapShards(std::vector<ClassUnloadedData> &unloadedClasses);
 
    // If this function sets the missingLoaderInfo flag then a NULL result is due to missing class loader info;
    // otherwise that result is due to either the base component (returned via non-NULL uncachedBaseComponent)
@@ -542,15 +585,14 @@ private:
    PersistentUnorderedMap<J9Class*, ClassInfo> _romClassMap;
    // Hashtable for information related to one J9Method
    PersistentUnorderedMap<J9Method*, J9MethodInfo> _J9MethodMap;
-   // The following hashtable caches <classname> --> <J9Class> mappings
+   // The following sharded hashtable caches <classname> --> <J9Class> mappings
    // All classes in here are loaded by the systemClassLoader so we know they cannot be unloaded
-   PersistentUnorderedMap<ClassLoaderStringPair, TR_OpaqueClassBlock*> _classBySignatureMap;
+   ClassBySignatureMapShard *_classBySignatureMapShards[CLASS_BY_SIGNATURE_MAP_SHARDS];
 
    PersistentUnorderedMap<J9Class *, ClassChainData> _classChainDataMap;
    //Constant pool to class map
    PersistentUnorderedMap<J9ConstantPool *, TR_OpaqueClassBlock *> _constantPoolToClassMap;
    TR::Monitor *_romMapMonitor;
-   TR::Monitor *_classMapMonitor;
    TR::Monitor *_classChainDataMapMonitor;
    // The following monitor is used to protect access to _lastProcessedCriticalSeqNo and
    // the list of out-of-sequence compilation requests (_OOSequenceEntryList)
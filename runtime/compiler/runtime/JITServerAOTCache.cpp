@@ -2094,6 +2094,26 @@ JITServerAOTCacheMap::getNumDeserializedMethods() const
    return result;
    }
 
+size_t
+JITServerAOTCacheMap::getNumCacheHits() const
+   {
+   size_t result = 0;
+   OMR::CriticalSection cs(_monitor);
+   for (auto &it : _map)
+      result += it.second->getNumCacheHits();
+   return result;
+   }
+
+size_t
+JITServerAOTCacheMap::getNumCacheMisses() const
+   {
+   size_t result = 0;
+   OMR::CriticalSection cs(_monitor);
+   for (auto &it : _map)
+      result += it.second->getNumCacheMisses();
+   return result;
+   }
+
 void
 JITServerAOTCacheMap::printStats(FILE *f) const
    {
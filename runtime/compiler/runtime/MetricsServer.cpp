@@ -40,6 +40,7 @@
 #include "env/VerboseLog.hpp"
 #include "env/VMJ9.h"
 #include "net/ServerStream.hpp"
+#include "runtime/JITServerAOTCache.hpp"
 #include "runtime/MetricsServer.hpp"
 
 bool MetricsServer::useSSL(TR::CompilationInfo *compInfo)
@@ -143,13 +144,78 @@ double ActiveThreadsMetric::computeValue(TR::CompilationInfo *compInfo)
    return getValue();
    }
 
+double CompilationQueueSizeMetric::computeValue(TR::CompilationInfo *compInfo)
+   {
+   setValue(compInfo->getMethodQueueSize());
+   return getValue();
+   }
+
+double CompilationRequestsMetric::computeValue(TR::CompilationInfo *compInfo)
+   {
+   setValue(JITServer::CommunicationStream::_msgTypeCount[JITServer::MessageType::compilationRequest]);
+   return getValue();
+   }
+
+double AOTCacheHitsMetric::computeValue(TR::CompilationInfo *compInfo)
+   {
+   if (auto aotCacheMap = compInfo->getJITServerAOTCacheMap())
+      setValue(aotCacheMap->getNumCacheHits());
+   return getValue();
+   }
+
+double AOTCacheMissesMetric::computeValue(TR::CompilationInfo *compInfo)
+   {
+   if (auto aotCacheMap = compInfo->getJITServerAOTCacheMap())
+      setValue(aotCacheMap->getNumCacheMisses());
+   return getValue();
+   }
+
+double MessageBytesMetric::computeValue(TR::CompilationInfo *compInfo)
+   {
+   // The counters are updated by the communication streams without any
+   // synchronization; slightly stale values are fine for monitoring purposes
+   uint64_t total = 0;
+   for (int i = 0; i < JITServer::MessageType_MAXTYPE; ++i)
+      total += _bytesPerType[i];
+   setValue(total);
+   return getValue();
+   }
+
+std::string MessageBytesMetric::serialize()
+   {
+   std::string output = serializeHeader();
+   for (int i = 0; i < JITServer::MessageType_MAXTYPE; ++i)
+      {
+      uint64_t bytes = _bytesPerType[i];
+      if (bytes)
+         output += getName() + "{type=\"" + JITServer::messageNames[i] + "\"} " + std::to_string(bytes) + "\n";
+      }
+   return output;
+   }
+
+MessageBytesReceivedMetric::MessageBytesReceivedMetric() :
+   MessageBytesMetric("jitserver_message_bytes_received_total", "Number of bytes received, by message type",
+                      JITServer::CommunicationStream::_msgTypeBytesReceived)
+   {}
+
+MessageBytesSentMetric::MessageBytesSentMetric() :
+   MessageBytesMetric("jitserver_message_bytes_sent_total", "Number of bytes sent, by message type",
+                      JITServer::CommunicationStream::_msgTypeBytesSent)
+   {}
+
 MetricsDatabase::MetricsDatabase(TR::CompilationInfo *compInfo) : _compInfo(compInfo)
    {
    _metrics[0] = new (PERSISTENT_NEW) CPUUtilMetric();
    _metrics[1] = new (PERSISTENT_NEW) AvailableMemoryMetric();
    _metrics[2] = new (PERSISTENT_NEW) ConnectedClientsMetric();
    _metrics[3] = new (PERSISTENT_NEW) ActiveThreadsMetric();
-   static_assert(3 == MAX_METRICS - 1, "Unsupported number of metrics");
+   _metrics[4] = new (PERSISTENT_NEW) CompilationQueueSizeMetric();
+   _metrics[5] = new (PERSISTENT_NEW) CompilationRequestsMetric();
+   _metrics[6] = new (PERSISTENT_NEW) AOTCacheHitsMetric();
+   _metrics[7] = new (PERSISTENT_NEW) AOTCacheMissesMetric();
+   _metrics[8] = new (PERSISTENT_NEW) MessageBytesReceivedMetric();
+   _metrics[9] = new (PERSISTENT_NEW) MessageBytesSentMetric();
+   static_assert(9 == MAX_METRICS - 1, "Unsupported number of metrics");
    }
 
 MetricsDatabase::~MetricsDatabase()
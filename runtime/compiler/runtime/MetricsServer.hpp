@@ -36,12 +36,14 @@ namespace TR { class CompilationInfo; }
 
    PrometheusMetric is an abstract class and concrete classes need to be derived from it.
    Derived classes need to implement the `computeValue()` function and possibly the
-   destructor, if they allocate memory dynamically.
+   destructor, if they allocate memory dynamically. Metrics that are monotonically
+   increasing should pass "counter" as their type; the default type is "gauge".
  */
 class PrometheusMetric
    {
    public:
-   PrometheusMetric(const std::string &name, const std::string &help) :_name(name), _help(help) {}
+   PrometheusMetric(const std::string &name, const std::string &help, const std::string &type = "gauge") :
+      _name(name), _help(help), _type(type), _value(0) {}
    virtual ~PrometheusMetric() {}
    /**
       @brief Compute the value of the metric that is to be monitored and cache it
@@ -51,20 +53,27 @@ class PrometheusMetric
    virtual double computeValue(TR::CompilationInfo *compInfo) = 0;
    const std::string &getName() const { return _name; }
    const std::string &getHelp() const { return _help; }
+   const std::string &getType() const { return _type; }
    double getValue() const { return _value; }
    void setValue(double v) { _value = v; }
    /**
       @brief Build a std::string that encodes the value of the metric in a format understood by Prometheus
       @return Serialized value of the metric (as a std::string)
    */
-   std::string serialize()
+   virtual std::string serialize()
       {
-      return "# HELP " + getName() + " " + getHelp() + "\n# TYPE " + getName() + " gauge\n" + getName() + " " + std::to_string(getValue()) + "\n";
+      return serializeHeader() + getName() + " " + std::to_string(getValue()) + "\n";
       }
 
    protected:
+   std::string serializeHeader() const
+      {
+      return "# HELP " + getName() + " " + getHelp() + "\n# TYPE " + getName() + " " + getType() + "\n";
+      }
+
    const std::string _name;
    const std::string _help;
+   const std::string _type;
    double _value;
    }; // class PrometheusMetric
 
@@ -112,6 +121,86 @@ public:
    virtual double computeValue(TR::CompilationInfo *compInfo);
    }; // class ActiveThreadsMetric
 
+/**
+   @brief Class used to serialize the number of methods waiting in the compilation queue, as a metric understood by Prometheus
+ */
+class CompilationQueueSizeMetric : public PrometheusMetric
+   {
+public:
+   CompilationQueueSizeMetric() : PrometheusMetric("jitserver_compilation_queue_size", "Number of compilation requests waiting in the queue")
+      {}
+   virtual double computeValue(TR::CompilationInfo *compInfo);
+   }; // class CompilationQueueSizeMetric
+
+/**
+   @brief Class used to serialize the number of compilation requests received by JITServer, as a metric understood by Prometheus
+ */
+class CompilationRequestsMetric : public PrometheusMetric
+   {
+public:
+   CompilationRequestsMetric() : PrometheusMetric("jitserver_compilation_requests_total", "Number of compilation requests received", "counter")
+      {}
+   virtual double computeValue(TR::CompilationInfo *compInfo);
+   }; // class CompilationRequestsMetric
+
+/**
+   @brief Class used to serialize the number of AOT cache hits across all AOT caches, as a metric understood by Prometheus
+ */
+class AOTCacheHitsMetric : public PrometheusMetric
+   {
+public:
+   AOTCacheHitsMetric() : PrometheusMetric("jitserver_aot_cache_hits_total", "Number of AOT cache hits", "counter")
+      {}
+   virtual double computeValue(TR::CompilationInfo *compInfo);
+   }; // class AOTCacheHitsMetric
+
+/**
+   @brief Class used to serialize the number of AOT cache misses across all AOT caches, as a metric understood by Prometheus
+ */
+class AOTCacheMissesMetric : public PrometheusMetric
+   {
+public:
+   AOTCacheMissesMetric() : PrometheusMetric("jitserver_aot_cache_misses_total", "Number of AOT cache misses", "counter")
+      {}
+   virtual double computeValue(TR::CompilationInfo *compInfo);
+   }; // class AOTCacheMissesMetric
+
+/**
+   @brief Abstract class used to serialize a per-message-type byte count, as a metric understood by Prometheus
+
+   Only message types that have been seen at least once are serialized, each one as a separate
+   sample labeled with the name of the message type. The value of the metric is the total over all types.
+ */
+class MessageBytesMetric : public PrometheusMetric
+   {
+public:
+   MessageBytesMetric(const std::string &name, const std::string &help, const uint64_t *bytesPerType) :
+      PrometheusMetric(name, help, "counter"), _bytesPerType(bytesPerType)
+      {}
+   virtual double computeValue(TR::CompilationInfo *compInfo);
+   virtual std::string serialize();
+private:
+   const uint64_t *_bytesPerType; // Array of MessageType_MAXTYPE counters maintained by the communication streams
+   }; // class MessageBytesMetric
+
+/**
+   @brief Class used to serialize the number of bytes received by JITServer for each message type
+ */
+class MessageBytesReceivedMetric : public MessageBytesMetric
+   {
+public:
+   MessageBytesReceivedMetric();
+   }; // class MessageBytesReceivedMetric
+
+/**
+   @brief Class used to serialize the number of bytes sent by JITServer for each message type
+ */
+class MessageBytesSentMetric : public MessageBytesMetric
+   {
+public:
+   MessageBytesSentMetric();
+   }; // class MessageBytesSentMetric
+
 
 /**
    @class MetricsDatabase
@@ -125,7 +214,7 @@ public:
 class MetricsDatabase
    {
    public:
-   static const size_t MAX_METRICS = 4; // Maximum number of metrics our database can hold
+   static const size_t MAX_METRICS = 10; // Maximum number of metrics our database can hold
    MetricsDatabase(TR::CompilationInfo *compInfo);
    ~MetricsDatabase();
 
@@ -113,6 +113,7 @@ J9MemoryManagerFunctions MemoryManagerFunctions = {
 	j9gc_ext_check_is_valid_heap_object,
 #if defined(J9VM_GC_FINALIZATION)
 	j9gc_get_objects_pending_finalization_count,
+	j9gc_get_objects_finalized_count,
 #endif /* J9VM_GC_FINALIZATION */
 	j9gc_set_softmx,
 	j9gc_get_softmx,
@@ -226,6 +227,9 @@ J9MemoryManagerFunctions MemoryManagerFunctions = {
 	j9gc_arraylet_getLeafSize,
 	j9gc_arraylet_getLeafLogSize,
 	j9gc_set_allocation_sampling_interval,
+	j9gc_get_allocation_sites,
+	j9gc_get_memory_pressure_released_bytes,
+	j9gc_get_utilization_histogram,
 	j9gc_set_allocation_threshold,
 	j9gc_objaccess_recentlyAllocatedObject,
 	j9gc_objaccess_postStoreClassToClassLoader,
@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+#include "j9.h"
+#include "j9cfg.h"
+#include "j9consts.h"
+#include "hashtable_api.h"
+#include "j9cp.h"
+#include "mmhook_internal.h"
+#include "vmhook_internal.h"
+
+#include "AllocationSiteSampler.hpp"
+#include "EnvironmentBase.hpp"
+#include "GCExtensions.hpp"
+
+/* initial number of entries in the site table, it grows up to -Xgc:allocationSiteSamplingMaxSites */
+#define ALLOCATION_SITE_TABLE_INITIAL_SIZE 64
+
+static UDATA
+allocationSiteHashFn(void *key, void *userData)
+{
+	J9AllocationSite *site = (J9AllocationSite *)key;
+	/* J9Method and J9Class pointers are at least 8-aligned, so shift them for maximum entropy */
+	return (((UDATA)site->method) >> 3) ^ (((UDATA)site->clazz) >> 3) ^ (site->bytecodeOffset * 31);
+}
+
+static UDATA
+allocationSiteHashEqualFn(void *leftKey, void *rightKey, void *userData)
+{
+	J9AllocationSite *left = (J9AllocationSite *)leftKey;
+	J9AllocationSite *right = (J9AllocationSite *)rightKey;
+	return (left->method == right->method)
+		&& (left->bytecodeOffset == right->bytecodeOffset)
+		&& (left->clazz == right->clazz);
+}
+
+/**
+ * Stack walk callback which records the first visible frame and stops the walk.
+ */
+static UDATA
+allocationSiteFrameIterator(J9VMThread *currentThread, J9StackWalkState *walkState)
+{
+	walkState->userData1 = (void *)walkState->method;
+	walkState->userData2 = (void *)walkState->bytecodePCOffset;
+	return J9_STACKWALK_STOP_ITERATING;
+}
+
+MM_AllocationSiteSampler *
+MM_AllocationSiteSampler::newInstance(MM_EnvironmentBase *env)
+{
+	MM_AllocationSiteSampler *sampler = (MM_AllocationSiteSampler *)env->getForge()->allocate(sizeof(MM_AllocationSiteSampler), MM_AllocationCategory::FIXED, J9_GET_CALLSITE());
+	if (NULL != sampler) {
+		new(sampler) MM_AllocationSiteSampler(env);
+		if (!sampler->initialize(env)) {
+			sampler->kill(env);
+			sampler = NULL;
+		}
+	}
+	return sampler;
+}
+
+void
+MM_AllocationSiteSampler::kill(MM_EnvironmentBase *env)
+{
+	tearDown(env);
+	env->getForge()->free(this);
+}
+
+bool
+MM_AllocationSiteSampler::initialize(MM_EnvironmentBase *env)
+{
+	MM_GCExtensions *ext = MM_GCExtensions::getExtensions(env);
+	J9HookInterface **mmHooks = J9_HOOK_INTERFACE(ext->hookInterface);
+
+	if (0 != omrthread_monitor_init_with_name(&_monitor, 0, "GC allocation site sampler")) {
+		_monitor = NULL;
+		return false;
+	}
+
+	_sites = hashTableNew(OMRPORT_FROM_J9PORT(_javaVM->portLibrary), J9_GET_CALLSITE(), ALLOCATION_SITE_TABLE_INITIAL_SIZE,
+			sizeof(J9AllocationSite), sizeof(void *), 0, OMRMEM_CATEGORY_MM, allocationSiteHashFn, allocationSiteHashEqualFn, NULL, NULL);
+	if (NULL == _sites) {
+		return false;
+	}
+
+	/* the sampling hook has to be hooked before the VM bootstraps, otherwise the VM disables it */
+	if ((*mmHooks)->J9HookRegisterWithCallSite(mmHooks, J9HOOK_MM_OBJECT_ALLOCATION_SAMPLING, allocationSiteSamplerSampleHook, OMR_GET_CALLSITE(), this)) {
+		return false;
+	}
+#if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
+	J9HookInterface **vmHooks = _javaVM->internalVMFunctions->getVMHookInterface(_javaVM);
+	if ((*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_CLASSES_UNLOAD, allocationSiteSamplerClassesUnloadHook, OMR_GET_CALLSITE(), this)) {
+		return false;
+	}
+#endif /* defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING) */
+
+	/* No thread is allocating yet, so the interval does not have to be pushed to the threads
+	 * through j9gc_set_allocation_sampling_interval().
+	 */
+	ext->objectSamplingBytesGranularity = ext->allocationSiteSamplingInterval;
+
+	return true;
+}
+
+void
+MM_AllocationSiteSampler::tearDown(MM_EnvironmentBase *env)
+{
+	MM_GCExtensions *ext = MM_GCExtensions::getExtensions(env);
+	J9HookInterface **mmHooks = J9_HOOK_INTERFACE(ext->hookInterface);
+
+	if (NULL != *mmHooks) {
+		(*mmHooks)->J9HookUnregister(mmHooks, J9HOOK_MM_OBJECT_ALLOCATION_SAMPLING, allocationSiteSamplerSampleHook, this);
+	}
+#if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
+	J9HookInterface **vmHooks = _javaVM->internalVMFunctions->getVMHookInterface(_javaVM);
+	if (NULL != vmHooks) {
+		(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_CLASSES_UNLOAD, allocationSiteSamplerClassesUnloadHook, this);
+	}
+#endif /* defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING) */
+	if (NULL != _sites) {
+		hashTableFree(_sites);
+		_sites = NULL;
+	}
+	if (NULL != _monitor) {
+		omrthread_monitor_destroy(_monitor);
+		_monitor = NULL;
+	}
+}
+
+void
+MM_AllocationSiteSampler::sampleAllocation(J9VMThread *currentThread, J9Class *clazz, uintptr_t objectSize)
+{
+	MM_GCExtensions *ext = MM_GCExtensions::getExtensions(_javaVM);
+	GC_Environment *gcEnv = MM_EnvironmentBase::getEnvironment(currentThread->omrVMThread)->getGCEnvironment();
+	uintptr_t samplingInterval = ext->allocationSiteSamplingInterval;
+	uintptr_t eventBytes = ext->objectSamplingBytesGranularity;
+
+	if (UDATA_MAX == eventBytes) {
+		/* the interval was reset after this event fired */
+		eventBytes = samplingInterval;
+	}
+	/* a small JVMTI interval only costs this addition per event, the stack walk and the monitor are paid per sampler interval */
+	gcEnv->_allocationSiteSampleBytes += eventBytes;
+	if (gcEnv->_allocationSiteSampleBytes >= samplingInterval) {
+		uintptr_t sampleCount = gcEnv->_allocationSiteSampleBytes / samplingInterval;
+		gcEnv->_allocationSiteSampleBytes %= samplingInterval;
+		recordSample(currentThread, clazz, objectSize, sampleCount);
+	}
+}
+
+void
+MM_AllocationSiteSampler::recordSample(J9VMThread *currentThread, J9Class *clazz, uintptr_t objectSize, uintptr_t sampleCount)
+{
+	J9StackWalkState walkState;
+	J9AllocationSite key;
+
+	/* walk outside of the monitor, only the top visible frame is needed */
+	walkState.walkThread = currentThread;
+	walkState.skipCount = 0;
+	walkState.maxFrames = 1;
+	walkState.userData1 = NULL;
+	walkState.userData2 = NULL;
+	walkState.frameWalkFunction = allocationSiteFrameIterator;
+	walkState.flags = J9_STACKWALK_ITERATE_FRAMES
+			| J9_STACKWALK_VISIBLE_ONLY
+			| J9_STACKWALK_INCLUDE_NATIVES
+			| J9_STACKWALK_COUNT_SPECIFIED
+			| J9_STACKWALK_RECORD_BYTECODE_PC_OFFSET;
+	_javaVM->walkStackFrames(currentThread, &walkState);
+
+	key.method = (J9Method *)walkState.userData1;
+	key.bytecodeOffset = (UDATA)walkState.userData2;
+	key.clazz = clazz;
+	key.sampleCount = 0;
+	key.sampledBytes = 0;
+
+	omrthread_monitor_enter(_monitor);
+	J9AllocationSite *site = (J9AllocationSite *)hashTableFind(_sites, &key);
+	if ((NULL == site) && (hashTableGetCount(_sites) < _maxSites)) {
+		site = (J9AllocationSite *)hashTableAdd(_sites, &key);
+	}
+	if (NULL != site) {
+		site->sampleCount += sampleCount;
+		site->sampledBytes += objectSize;
+	} else {
+		_droppedSamples += sampleCount;
+	}
+	omrthread_monitor_exit(_monitor);
+}
+
+void
+MM_AllocationSiteSampler::purgeDyingClasses()
+{
+	J9HashTableState walkState;
+
+	omrthread_monitor_enter(_monitor);
+	J9AllocationSite *site = (J9AllocationSite *)hashTableStartDo(_sites, &walkState);
+	while (NULL != site) {
+		bool dying = J9_ARE_ANY_BITS_SET(J9CLASS_FLAGS(site->clazz), J9AccClassDying);
+		if ((NULL != site->method) && J9_ARE_ANY_BITS_SET(J9CLASS_FLAGS(J9_CLASS_FROM_METHOD(site->method)), J9AccClassDying)) {
+			dying = true;
+		}
+		if (dying) {
+			hashTableDoRemove(&walkState);
+		}
+		site = (J9AllocationSite *)hashTableNextDo(&walkState);
+	}
+	omrthread_monitor_exit(_monitor);
+}
+
+uintptr_t
+MM_AllocationSiteSampler::copySites(J9AllocationSite *sites, uintptr_t maxSites, uintptr_t *droppedSamples)
+{
+	J9HashTableState walkState;
+	uintptr_t siteCount = 0;
+
+	omrthread_monitor_enter(_monitor);
+	J9AllocationSite *site = (J9AllocationSite *)hashTableStartDo(_sites, &walkState);
+	while (NULL != site) {
+		if (siteCount < maxSites) {
+			sites[siteCount] = *site;
+		}
+		siteCount += 1;
+		site = (J9AllocationSite *)hashTableNextDo(&walkState);
+	}
+	*droppedSamples = _droppedSamples;
+	omrthread_monitor_exit(_monitor);
+
+	return siteCount;
+}
+
+void
+allocationSiteSamplerSampleHook(J9HookInterface **hook, uintptr_t eventNum, void *eventData, void *userData)
+{
+	MM_ObjectAllocationSamplingEvent *event = (MM_ObjectAllocationSamplingEvent *)eventData;
+	MM_AllocationSiteSampler *sampler = (MM_AllocationSiteSampler *)userData;
+
+	sampler->sampleAllocation(event->currentThread, event->clazz, event->objectSize);
+}
+
+void
+allocationSiteSamplerClassesUnloadHook(J9HookInterface **hook, uintptr_t eventNum, void *eventData, void *userData)
+{
+	MM_AllocationSiteSampler *sampler = (MM_AllocationSiteSampler *)userData;
+
+	sampler->purgeDyingClasses();
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+/**
+ * @file
+ * @ingroup GC_Base
+ */
+#if !defined(ALLOCATIONSITESAMPLERHPP_)
+#define ALLOCATIONSITESAMPLERHPP_
+
+#include "j9.h"
+#include "j9cfg.h"
+#include "BaseNonVirtual.hpp"
+#include "EnvironmentBase.hpp"
+#include "GCExtensions.hpp"
+
+extern "C" {
+/**
+ * Hook "J9HOOK_MM_OBJECT_ALLOCATION_SAMPLING" callback function
+ * Records the allocation site of the sampled object
+ */
+void allocationSiteSamplerSampleHook(J9HookInterface **hook, uintptr_t eventNum, void *eventData, void *userData);
+/**
+ * Hook "J9HOOK_VM_CLASSES_UNLOAD" callback function
+ * Removes the allocation sites which refer to unloading classes
+ */
+void allocationSiteSamplerClassesUnloadHook(J9HookInterface **hook, uintptr_t eventNum, void *eventData, void *userData);
+}
+
+/**
+ * Aggregates the objects reported by the allocation sampling hook by allocation site.
+ * The hook fires once every -Xgc:allocationSiteSampling bytes allocated by a thread, which is checked
+ * when the thread refreshes its TLH or allocates out of line, so the cost is paid per sample rather than per object.
+ * The hook is shared with JVMTI SampledObjectAlloc, see sampleAllocation() for how a different JVMTI interval is handled.
+ * A site is the top visible frame (method and bytecode offset) together with the class allocated.
+ * The number of sites recorded is bounded, samples for new sites are counted as dropped once the bound is reached.
+ */
+class MM_AllocationSiteSampler : public MM_BaseNonVirtual
+{
+private:
+	J9JavaVM *_javaVM; /**< reference to the language runtime */
+	omrthread_monitor_t _monitor; /**< protects _sites and _droppedSamples */
+	J9HashTable *_sites; /**< J9AllocationSite entries keyed by method, bytecode offset and class */
+	uintptr_t _maxSites; /**< maximum number of entries in _sites */
+	uintptr_t _droppedSamples; /**< samples not recorded because _sites was full */
+
+protected:
+	/**
+	 * Initialize the object of this class and register for the sampling and class unload hooks
+	 */
+	bool initialize(MM_EnvironmentBase *env);
+	/**
+	 * cleanup the object & unregister registered hooks
+	 */
+	void tearDown(MM_EnvironmentBase *env);
+public:
+	/**
+	 * creates the object
+	 */
+	static MM_AllocationSiteSampler *newInstance(MM_EnvironmentBase *env);
+	/**
+	 * deallocates the object
+	 */
+	void kill(MM_EnvironmentBase *env);
+
+	/**
+	 * Handle one allocation sampling event.
+	 * The events fire every MM_GCExtensions::objectSamplingBytesGranularity bytes, which a JVMTI agent can set
+	 * below or above the sampler interval. The bytes each event stands for are credited to the allocating thread
+	 * and a sample is recorded only once the credit reaches the sampler interval, so every recorded sample
+	 * stands for one sampler interval whatever the event rate.
+	 * @param currentThread the allocating thread, its top visible frame is the allocation site
+	 * @param clazz the class of the sampled object
+	 * @param objectSize the size of the sampled object in bytes
+	 */
+	void sampleAllocation(J9VMThread *currentThread, J9Class *clazz, uintptr_t objectSize);
+
+	/**
+	 * Record sampled allocations for the allocation site of the current thread.
+	 * @param currentThread the allocating thread, its top visible frame is the allocation site
+	 * @param clazz the class of the sampled object
+	 * @param objectSize the size of the sampled object in bytes
+	 * @param sampleCount the number of sampler intervals the sample stands for
+	 */
+	void recordSample(J9VMThread *currentThread, J9Class *clazz, uintptr_t objectSize, uintptr_t sampleCount);
+
+	/**
+	 * Remove the sites whose method or allocated class is being unloaded.
+	 * Called with exclusive VM access while classes are unloaded.
+	 */
+	void purgeDyingClasses();
+
+	/**
+	 * Copy the recorded sites into the caller's array.
+	 * The caller must hold VM access for as long as it uses the J9Method and J9Class pointers in the copy.
+	 * @param[out] sites array receiving at most maxSites entries
+	 * @param maxSites capacity of sites
+	 * @param[out] droppedSamples the number of samples not recorded because the table was full
+	 * @return the number of recorded sites, which is larger than maxSites if not all of them were copied
+	 */
+	uintptr_t copySites(J9AllocationSite *sites, uintptr_t maxSites, uintptr_t *droppedSamples);
+
+	MM_AllocationSiteSampler(MM_EnvironmentBase *env)
+		: MM_BaseNonVirtual()
+		, _javaVM((J9JavaVM *)env->getOmrVM()->_language_vm)
+		, _monitor(NULL)
+		, _sites(NULL)
+		, _maxSites(MM_GCExtensions::getExtensions(env)->allocationSiteSamplingMaxSites)
+		, _droppedSamples(0)
+	{
+		_typeId = __FUNCTION__;
+	}
+};
+
+#endif /* ALLOCATIONSITESAMPLERHPP_ */
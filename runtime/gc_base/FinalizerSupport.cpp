@@ -177,17 +177,26 @@ struct finalizeWorkerData {
 	IDATA wakeUp;
 };
 
+/**
+ * The finalize worker threads owned by the finalize main thread.  All the workers consume jobs from
+ * the same Finalize List Manager, so the lists are drained concurrently.
+ */
+struct finalizeWorkerPool {
+	UDATA workerCount; /**< number of worker slots (-Xgc:finalizeWorkerThreads) */
+	struct finalizeWorkerData **workers; /**< worker of each slot, NULL if the slot has no worker or its worker was abandoned */
+};
+
 static int J9THREAD_PROC FinalizeWorkerThread(void *arg);
-IDATA FinalizeMainRunFinalization(J9JavaVM * vm, omrthread_t * indirectWorkerThreadHandle, struct finalizeWorkerData **indirectWorkerData, IDATA finalizeCycleLimit, IDATA mode);
+static struct finalizeWorkerData *FinalizeMainCreateWorker(J9JavaVM *vm);
+IDATA FinalizeMainRunFinalization(J9JavaVM *vm, struct finalizeWorkerPool *pool, IDATA finalizeCycleLimit, IDATA mode, bool *listsDrained);
 static int J9THREAD_PROC FinalizeMainThread(void *javaVM);
 static int  J9THREAD_PROC gpProtectedFinalizeWorkerThread(void *entryArg);
 
 static int J9THREAD_PROC FinalizeMainThread(void *javaVM)
 {
 	J9JavaVM *vm = (J9JavaVM *)javaVM;
-	omrthread_t workerThreadHandle;
+	struct finalizeWorkerPool *pool = (struct finalizeWorkerPool *)vm->finalizeWorkerData;
 	int noCycleWait;
-	struct finalizeWorkerData *workerData = NULL;
 	IDATA finalizeCycleInterval, finalizeCycleLimit, currentWaitTime, finalizableListUsed;
 	IDATA cycleIntervalWaitResult;
 	UDATA workerMode, savedFinalizeMainFlags;
@@ -199,7 +208,6 @@ static int J9THREAD_PROC FinalizeMainThread(void *javaVM)
 	omrthread_set_name(omrthread_self(), "Finalizer main");
 
 	vm->finalizeMainThread = omrthread_self();
-	workerThreadHandle = NULL;
 	noCycleWait = 0;
 
 	finalizeListManager = extensions->finalizeListManager;
@@ -271,7 +279,8 @@ static int J9THREAD_PROC FinalizeMainThread(void *javaVM)
 
 		savedFinalizeMainFlags = vm->finalizeMainFlags;
 
-		IDATA result = FinalizeMainRunFinalization(vm, &workerThreadHandle, &workerData, finalizeCycleLimit, workerMode);
+		bool listsDrained = false;
+		IDATA result = FinalizeMainRunFinalization(vm, pool, finalizeCycleLimit, workerMode, &listsDrained);
 		if(result < 0) {
 			/* give up this run and hope next time will be better */
 			currentWaitTime = 0;
@@ -279,45 +288,43 @@ static int J9THREAD_PROC FinalizeMainThread(void *javaVM)
 			continue;
 		}
 
-		/* Determine whether the worker actually did finish it's work */
-		omrthread_monitor_enter(workerData->monitor);
-		if(workerData->finished) {
-			if(workerData->noWorkDone) {
-				workerData->noWorkDone = 0;
+		/* Only report forced finalization as complete once every worker found the lists empty */
+		if(listsDrained) {
 #if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
-				if(!(savedFinalizeMainFlags & J9_FINALIZE_FLAGS_FORCE_CLASS_LOADER_UNLOAD)) {
+			if(!(savedFinalizeMainFlags & J9_FINALIZE_FLAGS_FORCE_CLASS_LOADER_UNLOAD)) {
 #endif /* J9VM_GC_DYNAMIC_CLASS_UNLOADING */
-					currentWaitTime = 0;
-					if(savedFinalizeMainFlags & J9_FINALIZE_FLAGS_RUN_FINALIZATION) {
-						vm->finalizeMainFlags &= ~J9_FINALIZE_FLAGS_RUN_FINALIZATION;
-						omrthread_monitor_enter(vm->finalizeRunFinalizationMutex);
-						omrthread_monitor_notify_all(vm->finalizeRunFinalizationMutex);
-						omrthread_monitor_exit(vm->finalizeRunFinalizationMutex);
-					}
-#if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
+				currentWaitTime = 0;
+				if(savedFinalizeMainFlags & J9_FINALIZE_FLAGS_RUN_FINALIZATION) {
+					vm->finalizeMainFlags &= ~J9_FINALIZE_FLAGS_RUN_FINALIZATION;
+					omrthread_monitor_enter(vm->finalizeRunFinalizationMutex);
+					omrthread_monitor_notify_all(vm->finalizeRunFinalizationMutex);
+					omrthread_monitor_exit(vm->finalizeRunFinalizationMutex);
 				}
-#endif /* J9VM_GC_DYNAMIC_CLASS_UNLOADING */
+#if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
 			}
-		} else {
-			/* The worker never finished during the allocated time - abandon it */
-			workerData->die = FINALIZE_WORKER_ABANDONED;
-			workerThreadHandle = NULL;
+#endif /* J9VM_GC_DYNAMIC_CLASS_UNLOADING */
 		}
-		omrthread_monitor_exit(workerData->monitor);
 	} while(!(vm->finalizeMainFlags & J9_FINALIZE_FLAGS_SHUTDOWN));
 
 	/* We've been told to die */
-	if(NULL != workerThreadHandle) {
-		omrthread_monitor_exit((omrthread_monitor_t)vm->finalizeMainMonitor);
-		omrthread_monitor_enter(workerData->monitor);
-		workerData->die = FINALIZE_WORKER_SHOULD_DIE;
-		omrthread_monitor_notify_all(workerData->monitor);
-		omrthread_monitor_wait(workerData->monitor);
-		omrthread_monitor_exit(workerData->monitor);
-		omrthread_monitor_destroy(workerData->monitor);
-		forge->free(workerData);
-		omrthread_monitor_enter((omrthread_monitor_t)vm->finalizeMainMonitor);
+	for (UDATA i = 0; i < pool->workerCount; i++) {
+		struct finalizeWorkerData *workerData = pool->workers[i];
+		if(NULL != workerData) {
+			pool->workers[i] = NULL;
+			omrthread_monitor_exit((omrthread_monitor_t)vm->finalizeMainMonitor);
+			omrthread_monitor_enter(workerData->monitor);
+			workerData->die = FINALIZE_WORKER_SHOULD_DIE;
+			omrthread_monitor_notify_all(workerData->monitor);
+			omrthread_monitor_wait(workerData->monitor);
+			omrthread_monitor_exit(workerData->monitor);
+			omrthread_monitor_destroy(workerData->monitor);
+			forge->free(workerData);
+			omrthread_monitor_enter((omrthread_monitor_t)vm->finalizeMainMonitor);
+		}
 	}
+	vm->finalizeWorkerData = NULL;
+	forge->free(pool->workers);
+	forge->free(pool);
 
 #if defined(J9VM_OPT_JAVA_OFFLOAD_SUPPORT)
 	if(NULL != vm->javaOffloadSwitchOffNoEnvWithReasonFunc) {
@@ -575,6 +582,8 @@ static int J9THREAD_PROC FinalizeWorkerThread(void *arg)
 
 			/* processing will release/acquire VM access */
 			process(env, finalizeJob, j9VMInternalsClass, runFinalizeMID, referenceEnqueueImplMID);
+			/* the other workers of the pool, and an abandoned worker, may be counting at the same time */
+			MM_AtomicOperations::add(&extensions->finalizeJobsProcessed, 1);
 
 			if ((NULL != vm->processReferenceMonitor) && (0 != vm->processReferenceActive)) {
 				omrthread_monitor_enter(vm->processReferenceMonitor);
@@ -650,125 +659,186 @@ static int J9THREAD_PROC FinalizeWorkerThread(void *arg)
 }
 
 /*
+ * Create a worker thread and wait for it to attach.
+ *
  * Preconditions:
  * 	holds finalizeMainMonitor
- * 	does not hold workerData->monitor
  * Postconditions:
  * 	holds finalizeMainMonitor
- * 	does not hold workerData->monitor
+ *
+ * @return the data of the new worker, NULL if the worker could not be created
  */
-IDATA FinalizeMainRunFinalization(J9JavaVM * vm, omrthread_t * indirectWorkerThreadHandle,
-										   struct finalizeWorkerData **indirectWorkerData, IDATA finalizeCycleLimit,
-										   IDATA mode)
+static struct finalizeWorkerData *
+FinalizeMainCreateWorker(J9JavaVM *vm)
 {
 	omrthread_t workerThreadHandle;
 	struct finalizeWorkerData *workerData;
-	IDATA workerWaitResult;
-	UDATA publicFlags;
 	MM_Forge *forge = MM_GCExtensionsBase::getExtensions(vm->omrVM)->getForge();
-	
-	workerThreadHandle = *indirectWorkerThreadHandle;
-	workerData = *indirectWorkerData;
-
-	/* There is work to be done - if no worker thread exists, create one */
-	if (NULL == workerThreadHandle) {
-		/* Initialize a workerData structure */
-		workerData = (struct finalizeWorkerData *) forge->allocate(sizeof(struct finalizeWorkerData), MM_AllocationCategory::FINALIZE, J9_GET_CALLSITE());
-		if (NULL == workerData) {
-			/* What should be done here! */
-			return -1;
-		}
-		workerData->vm = vm;
-		workerData->die = FINALIZE_WORKER_STAY_ALIVE;
-		workerData->noWorkDone = 0;
-		workerData->mode = FINALIZE_WORKER_MODE_NORMAL;
-		workerData->wakeUp = 0;
 
-		if (0 != omrthread_monitor_init(&(workerData->monitor), 0)) {
-			forge->free(workerData);
+	/* Initialize a workerData structure */
+	workerData = (struct finalizeWorkerData *) forge->allocate(sizeof(struct finalizeWorkerData), MM_AllocationCategory::FINALIZE, J9_GET_CALLSITE());
+	if (NULL == workerData) {
+		/* What should be done here! */
+		return NULL;
+	}
+	workerData->vm = vm;
+	workerData->die = FINALIZE_WORKER_STAY_ALIVE;
+	workerData->finished = 0;
+	workerData->noWorkDone = 0;
+	workerData->mode = FINALIZE_WORKER_MODE_NORMAL;
+	workerData->wakeUp = 0;
 
-			/* What should be done here! */
-			return -1;
-		}
-		omrthread_monitor_exit(vm->finalizeMainMonitor);
-		omrthread_monitor_enter(workerData->monitor);
+	if (0 != omrthread_monitor_init(&(workerData->monitor), 0)) {
+		forge->free(workerData);
 
-		/* Fork the worker thread */
-		IDATA result = vm->internalVMFunctions->createThreadWithCategory(
-							&workerThreadHandle,
-							vm->defaultOSStackSize,
-							MM_GCExtensions::getExtensions(vm)->finalizeWorkerPriority,
-							0,
-							&gpProtectedFinalizeWorkerThread,
-							workerData,
-							J9THREAD_CATEGORY_APPLICATION_THREAD);
-
-		if (result != 0) {
-			omrthread_monitor_exit(workerData->monitor);
-			omrthread_monitor_destroy(workerData->monitor);			
-			forge->free(workerData);
-			omrthread_monitor_enter(vm->finalizeMainMonitor);
-			return -1;
-		}
-		omrthread_monitor_wait(workerData->monitor);
-		if (!workerData->vmThread) {
-			/* The worker thread failed to initialize/attach - this is really bad */
-			omrthread_monitor_exit(workerData->monitor);
-			omrthread_monitor_destroy(workerData->monitor);
-			forge->free(workerData);
-			omrthread_monitor_enter(vm->finalizeMainMonitor);
-			return -1;
-		}
+		/* What should be done here! */
+		return NULL;
+	}
+	omrthread_monitor_exit(vm->finalizeMainMonitor);
+	omrthread_monitor_enter(workerData->monitor);
+
+	/* Fork the worker thread */
+	IDATA result = vm->internalVMFunctions->createThreadWithCategory(
+						&workerThreadHandle,
+						vm->defaultOSStackSize,
+						MM_GCExtensions::getExtensions(vm)->finalizeWorkerPriority,
+						0,
+						&gpProtectedFinalizeWorkerThread,
+						workerData,
+						J9THREAD_CATEGORY_APPLICATION_THREAD);
+
+	if (result != 0) {
+		omrthread_monitor_exit(workerData->monitor);
+		omrthread_monitor_destroy(workerData->monitor);
+		forge->free(workerData);
+		omrthread_monitor_enter(vm->finalizeMainMonitor);
+		return NULL;
+	}
+	omrthread_monitor_wait(workerData->monitor);
+	if (!workerData->vmThread) {
+		/* The worker thread failed to initialize/attach - this is really bad */
 		omrthread_monitor_exit(workerData->monitor);
+		omrthread_monitor_destroy(workerData->monitor);
+		forge->free(workerData);
 		omrthread_monitor_enter(vm->finalizeMainMonitor);
+		return NULL;
+	}
+	omrthread_monitor_exit(workerData->monitor);
+	omrthread_monitor_enter(vm->finalizeMainMonitor);
 
-		*indirectWorkerData = workerData;
-		*indirectWorkerThreadHandle = workerThreadHandle;
+	return workerData;
+}
 
-		/* Connect the worker */
-		vm->finalizeWorkerData = workerData;
+/*
+ * Run one finalization cycle on the worker pool.  In normal mode every worker is set to work and they
+ * consume jobs from the Finalize List Manager concurrently.  Forced class loader unloading is done by
+ * the first worker alone.  Workers which do not finish within finalizeCycleLimit are abandoned, and
+ * are replaced by new workers at the start of the next cycle.
+ *
+ * Preconditions:
+ * 	holds finalizeMainMonitor
+ * 	does not hold any workerData->monitor
+ * Postconditions:
+ * 	holds finalizeMainMonitor
+ * 	does not hold any workerData->monitor
+ *
+ * @param[out] listsDrained set to true if every worker of this cycle finished and found the lists empty
+ * @return a negative value if the cycle could not be run or a worker asked to be abandoned
+ */
+IDATA FinalizeMainRunFinalization(J9JavaVM *vm, struct finalizeWorkerPool *pool, IDATA finalizeCycleLimit,
+										   IDATA mode, bool *listsDrained)
+{
+	struct finalizeWorkerData *workerData;
+	IDATA workerWaitResult;
+	IDATA result = 0;
+	UDATA publicFlags;
+	UDATA activeWorkers = (FINALIZE_WORKER_MODE_NORMAL == mode) ? pool->workerCount : 1;
+	UDATA i = 0;
+
+	*listsDrained = false;
+
+	/* There is work to be done - create a worker for every slot which has none */
+	for (i = 0; i < activeWorkers; i++) {
+		if (NULL == pool->workers[i]) {
+			workerData = FinalizeMainCreateWorker(vm);
+			if (NULL == workerData) {
+				if (0 == i) {
+					return -1;
+				}
+				/* run this cycle with the workers we have */
+				activeWorkers = i;
+				break;
+			}
+			pool->workers[i] = workerData;
+		}
 	}
 
-	/* A worker exists - set it to work */
+	/* Workers exist - set them all to work before waiting for any of them */
 	omrthread_monitor_exit(vm->finalizeMainMonitor);
 
-	omrthread_monitor_enter(workerData->monitor);
-	workerData->wakeUp = 1;
-	workerData->mode = mode;
-	workerData->finished = 0;
-	omrthread_monitor_notify_all(workerData->monitor);	/* Wake worker up */
-	do {
-		workerWaitResult = omrthread_monitor_wait_timed(workerData->monitor, finalizeCycleLimit, 0);
+	for (i = 0; i < activeWorkers; i++) {
+		workerData = pool->workers[i];
+		omrthread_monitor_enter(workerData->monitor);
+		workerData->wakeUp = 1;
+		workerData->mode = mode;
+		workerData->finished = 0;
+		omrthread_monitor_notify_all(workerData->monitor);	/* Wake worker up */
+		omrthread_monitor_exit(workerData->monitor);
+	}
 
-		omrthread_monitor_enter(workerData->vmThread->publicFlagsMutex);
-		publicFlags = workerData->vmThread->publicFlags;
-		omrthread_monitor_exit(workerData->vmThread->publicFlagsMutex);
+	for (i = 0; i < activeWorkers; i++) {
+		workerData = pool->workers[i];
+		omrthread_monitor_enter(workerData->monitor);
+		/* the worker may have finished before we got here, so check before waiting */
+		while (!workerData->finished) {
+			workerWaitResult = omrthread_monitor_wait_timed(workerData->monitor, finalizeCycleLimit, 0);
+			if (workerWaitResult < 0) {
+				result = workerWaitResult;
+			}
+			if (J9THREAD_TIMED_OUT == workerWaitResult) {
+				omrthread_monitor_enter(workerData->vmThread->publicFlagsMutex);
+				publicFlags = workerData->vmThread->publicFlags;
+				omrthread_monitor_exit(workerData->vmThread->publicFlagsMutex);
+				/* keep waiting for a worker which is only held up by an exclusive VM access request */
+				if (0 == (publicFlags & J9_PUBLIC_FLAGS_HALT_VM_DUTIES)) {
+					break;
+				}
+			}
+		}
+		omrthread_monitor_exit(workerData->monitor);
 	}
-	while (
-		   (workerWaitResult == J9THREAD_TIMED_OUT && publicFlags & J9_PUBLIC_FLAGS_HALT_VM_DUTIES &&
-			!workerData->finished) || (workerWaitResult != J9THREAD_TIMED_OUT && !workerData->finished));
-	omrthread_monitor_exit(workerData->monitor);
 
 	omrthread_monitor_enter(vm->finalizeMainMonitor);
 
-	if(FINALIZE_WORKER_SHOULD_ABANDON == workerData->die) {
-		/* The worker thread has requested that we abandon it */
-
-		/* Disconnect the worker */
-		vm->finalizeWorkerData = NULL;
-		*indirectWorkerThreadHandle = NULL;
-		*indirectWorkerData = NULL;
-
-		/* Let the abandoned worker know that it can clean up */
+	*listsDrained = true;
+	for (i = 0; i < activeWorkers; i++) {
+		workerData = pool->workers[i];
 		omrthread_monitor_enter(workerData->monitor);
-		workerData->die = FINALIZE_WORKER_ABANDONED;
-		omrthread_monitor_notify_all(workerData->monitor);
-		omrthread_monitor_exit(workerData->monitor);
+		if (FINALIZE_WORKER_SHOULD_ABANDON == workerData->die) {
+			/* The worker thread has requested that we abandon it - disconnect it */
+			pool->workers[i] = NULL;
 
-		return -2;
+			/* Let the abandoned worker know that it can clean up */
+			workerData->die = FINALIZE_WORKER_ABANDONED;
+			omrthread_monitor_notify_all(workerData->monitor);
+			*listsDrained = false;
+			result = -2;
+		} else if (workerData->finished) {
+			/* Determine whether the worker found no more work to do */
+			if (!workerData->noWorkDone) {
+				*listsDrained = false;
+			}
+			workerData->noWorkDone = 0;
+		} else {
+			/* The worker never finished during the allocated time - abandon it */
+			pool->workers[i] = NULL;
+			workerData->die = FINALIZE_WORKER_ABANDONED;
+			*listsDrained = false;
+		}
+		omrthread_monitor_exit(workerData->monitor);
 	}
 
-	return workerWaitResult;
+	return result;
 }
 
 static UDATA
@@ -796,6 +866,23 @@ int j9gc_finalizer_startup(J9JavaVM * vm)
 {
 	IDATA result;
 
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
+	MM_Forge *forge = extensions->getForge();
+
+	/* The pool is owned by the main thread, which frees it when it shuts down */
+	struct finalizeWorkerPool *pool = (struct finalizeWorkerPool *) forge->allocate(sizeof(struct finalizeWorkerPool), MM_AllocationCategory::FINALIZE, J9_GET_CALLSITE());
+	if (NULL == pool) {
+		return -1;
+	}
+	pool->workerCount = extensions->finalizeWorkerThreads;
+	pool->workers = (struct finalizeWorkerData **) forge->allocate(sizeof(struct finalizeWorkerData *) * pool->workerCount, MM_AllocationCategory::FINALIZE, J9_GET_CALLSITE());
+	if (NULL == pool->workers) {
+		forge->free(pool);
+		return -1;
+	}
+	memset(pool->workers, 0, sizeof(struct finalizeWorkerData *) * pool->workerCount);
+	vm->finalizeWorkerData = pool;
+
 	omrthread_monitor_enter(vm->finalizeMainMonitor);
 
 	result = vm->internalVMFunctions->createThreadWithCategory(
@@ -808,7 +895,10 @@ int j9gc_finalizer_startup(J9JavaVM * vm)
 				J9THREAD_CATEGORY_SYSTEM_GC_THREAD);
 
 	if (0 != result) {
+		vm->finalizeWorkerData = NULL;
 		omrthread_monitor_exit(vm->finalizeMainMonitor);
+		forge->free(pool->workers);
+		forge->free(pool);
 		return -1;
 	}
 
@@ -852,17 +942,23 @@ void j9gc_finalizer_shutdown(J9JavaVM * vm)
 		if ( (vm->finalizeMainFlags & J9_FINALIZE_FLAGS_ACTIVE)
 				&& ( (vmThread && !(vmThread->privateFlags & J9_PRIVATE_FLAGS_FINALIZE_WORKER)) || !vmThread) ) {
 			bool waitForFinalizer = true;
-			struct finalizeWorkerData *workerData = (struct finalizeWorkerData*)vm->finalizeWorkerData;
+			struct finalizeWorkerPool *pool = (struct finalizeWorkerPool *)vm->finalizeWorkerData;
 
 			vm->finalizeMainFlags |= J9_FINALIZE_FLAGS_SHUTDOWN;
 			omrthread_monitor_notify_all(vm->finalizeMainMonitor);
-			if ((NULL != workerData) && (NULL != workerData->vmThread)
-					&& J9_ARE_ANY_BITS_SET(workerData->vmThread->publicFlags, J9_PUBLIC_FLAGS_HALT_THREAD_JAVA_SUSPEND)) {
-				/*
-				 * PR 87639 - don't wait for the finalizer if it has been suspended.
-				 * This will cause jniinv:terminateRemainingThreads() to fail.
-				 */
-				waitForFinalizer = false;
+			if (NULL != pool) {
+				for (UDATA i = 0; i < pool->workerCount; i++) {
+					struct finalizeWorkerData *workerData = pool->workers[i];
+					if ((NULL != workerData) && (NULL != workerData->vmThread)
+							&& J9_ARE_ANY_BITS_SET(workerData->vmThread->publicFlags, J9_PUBLIC_FLAGS_HALT_THREAD_JAVA_SUSPEND)) {
+						/*
+						 * PR 87639 - don't wait for the finalizer if it has been suspended.
+						 * This will cause jniinv:terminateRemainingThreads() to fail.
+						 */
+						waitForFinalizer = false;
+						break;
+					}
+				}
 			}
 			if (waitForFinalizer) {
 				while (!(vm->finalizeMainFlags & J9_FINALIZE_FLAGS_SHUTDOWN_COMPLETE)) {
@@ -31,6 +31,7 @@
 #include "ModronAssertions.h"
 #include "util_api.h"
 
+#include "AllocationSiteSampler.hpp"
 #include "AtomicSupport.hpp"
 #include "EnvironmentBase.hpp"
 #include "Forge.hpp"
@@ -170,6 +171,12 @@ MM_GCExtensions::tearDown(MM_EnvironmentBase *env)
 		wildcard = nextWildcard;
 	}
 	numaCommonThreadClassNamePatterns = NULL;
+
+	/* the sampler unregisters from the hook interface, so it has to go before the interface is shut down */
+	if (NULL != allocationSiteSampler) {
+		allocationSiteSampler->kill(env);
+		allocationSiteSampler = NULL;
+	}
 	
 	J9HookInterface** tmpHookInterface = getHookInterface();
 	if((NULL != tmpHookInterface) && (NULL != *tmpHookInterface)){
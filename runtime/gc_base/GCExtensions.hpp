@@ -73,6 +73,7 @@ class MM_ReferenceObjectList;
 #if defined(OMR_GC_IDLE_HEAP_MANAGER)
 class MM_IdleGCManager;
 #endif
+class MM_AllocationSiteSampler;
 
 #define DEFAULT_SURVIVOR_MINIMUM_FREESIZE 	2048
 #define DEFAULT_SURVIVOR_THRESHOLD 			512
@@ -106,6 +107,7 @@ public:
 #if defined(J9VM_GC_FINALIZATION)
 	intptr_t finalizeCycleInterval;
 	intptr_t finalizeCycleLimit;
+	volatile uintptr_t finalizeJobsProcessed; /**< number of finalize jobs (objects, references and class loaders) completed by finalizer workers */
 #endif /* J9VM_GC_FINALIZATION */
 
 	MM_HookInterface hookInterface;
@@ -158,8 +160,11 @@ public:
 #if defined(J9VM_GC_FINALIZATION)
 	uintptr_t finalizeMainPriority; /**< cmd line option to set finalize main thread priority */
 	uintptr_t finalizeWorkerPriority; /**< cmd line option to set finalize worker thread priority */
+	uintptr_t finalizeWorkerThreads; /**< cmd line option to set the number of finalize worker threads draining the finalize lists */
 #endif /* J9VM_GC_FINALIZATION */
 
+	uintptr_t asyncVerboseLoggingBufferSize; /**< size of the buffer handing verbose GC file output to a background writer thread, 0 to write on the GC thread */
+
 	MM_ClassLoaderManager* classLoaderManager; /**< Pointer to the gc's classloader manager to process classloaders/classes */
 #if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
 	uintptr_t deadClassLoaderCacheSize; /**< threshold after which we flush class segments (not done for every class unloading, since it requires heap walk) */
@@ -221,7 +226,13 @@ public:
 
 #if defined(OMR_GC_IDLE_HEAP_MANAGER)
 	MM_IdleGCManager* idleGCManager; /**< Manager which registers for VM Runtime State notification & manages free heap on notification */
+	uintptr_t gcOnMemoryPressureThreshold; /**< cgroup memory.pressure "some avg10" percentage at which free heap is released while the JVM is busy, 0 to disable */
+	uintptr_t gcOnMemoryPressureCheckInterval; /**< milliseconds between two reads of the cgroup memory pressure */
+	uintptr_t memoryPressureReleasedBytes; /**< total bytes of free heap decommitted because of cgroup memory pressure, only updated by the memory pressure thread */
 #endif
+	MM_AllocationSiteSampler *allocationSiteSampler; /**< Aggregates sampled allocations by allocation site, NULL unless -Xgc:allocationSiteSampling is specified */
+	uintptr_t allocationSiteSamplingInterval; /**< number of bytes allocated by a thread between two allocation site samples, 0 to disable */
+	uintptr_t allocationSiteSamplingMaxSites; /**< maximum number of distinct allocation sites recorded, further sites are only counted as dropped samples */
 
 	double maxRAMPercent; /**< Value of -XX:MaxRAMPercentage specified by the user */
 	double initialRAMPercent; /**< Value of -XX:InitialRAMPercentage specified by the user */
@@ -403,6 +414,7 @@ public:
 #if defined(J9VM_GC_FINALIZATION)
 		, finalizeCycleInterval(J9_FINALIZABLE_INTERVAL)  /* 1/2 second */
 		, finalizeCycleLimit(0)  /* 0 seconds (i.e. no time limit) */
+		, finalizeJobsProcessed(0)
 #endif /* J9VM_GC_FINALIZATION */
 #if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
 		, dynamicClassUnloadingSet(false)
@@ -417,7 +429,9 @@ public:
 #if defined(J9VM_GC_FINALIZATION)
 		, finalizeMainPriority(J9THREAD_PRIORITY_NORMAL)
 		, finalizeWorkerPriority(J9THREAD_PRIORITY_NORMAL)
+		, finalizeWorkerThreads(1)
 #endif /* J9VM_GC_FINALIZATION */
+		, asyncVerboseLoggingBufferSize(0)
 		, classLoaderManager(NULL)
 #if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
 		, deadClassLoaderCacheSize(1024 * 1024) /* default is one MiB */
@@ -434,7 +448,13 @@ public:
 		, _HeapManagementMXBeanBackCompatibilityEnabled(false)
 #if defined(OMR_GC_IDLE_HEAP_MANAGER)
 		, idleGCManager(NULL)
+		, gcOnMemoryPressureThreshold(0)
+		, gcOnMemoryPressureCheckInterval(1000)
+		, memoryPressureReleasedBytes(0)
 #endif
+		, allocationSiteSampler(NULL)
+		, allocationSiteSamplingInterval(0)
+		, allocationSiteSamplingMaxSites(1024)
 		, maxRAMPercent(-1.0) /* this would get overwritten by user specified value */
 		, initialRAMPercent(0.0) /* this would get overwritten by user specified value */
 		, minimumFreeSizeForSurvivor(DEFAULT_SURVIVOR_MINIMUM_FREESIZE)
@@ -23,8 +23,12 @@
 #include "j9.h"
 #include "j9cfg.h"
 #if defined(OMR_GC_IDLE_HEAP_MANAGER)
+#include <stdlib.h>
+#include <string.h>
+
 #include "j9protos.h"
 #include "j9consts.h"
+#include "mmhook_internal.h"
 #include "vmhook_internal.h"
 
 #include "IdleGCManager.hpp"
@@ -32,8 +36,25 @@
 #include "GCExtensions.hpp"
 #include "OMRVMInterface.hpp"
 #include "Heap.hpp"
+#include "MemorySpace.hpp"
+#include "MemorySubSpace.hpp"
 #include "VMAccess.hpp"
 
+#define CGROUP_V2_MOUNT_POINT "/sys/fs/cgroup"
+/* the cgroup v2 entry of /proc/self/cgroup has hierarchy ID 0 and no controller list */
+#define PROC_SELF_CGROUP_FILE "/proc/self/cgroup"
+#define PROC_SELF_CGROUP_V2_ENTRY "0::"
+/* pressure stall information of the cgroup's memory controller */
+#define MEMORY_PRESSURE_FILE "memory.pressure"
+#define MEMORY_PRESSURE_SOME_AVG10 "some avg10="
+#define MEMORY_CURRENT_FILE "memory.current"
+/* contains "max" when the cgroup is not throttled */
+#define MEMORY_HIGH_FILE "memory.high"
+/* number of checks to skip after a release, giving the previous release time to show in the pressure average */
+#define MEMORY_PRESSURE_RELEASE_BACKOFF_CHECKS 10
+
+static int J9THREAD_PROC memoryPressureThreadProc(void *arg);
+
 MM_IdleGCManager *
 MM_IdleGCManager::newInstance(MM_EnvironmentBase *env)
 {
@@ -61,16 +82,38 @@ MM_IdleGCManager::tearDown(MM_EnvironmentBase *env)
 	J9HookInterface **hookInterface = _javaVM->internalVMFunctions->getVMHookInterface(_javaVM);
 	if (NULL != hookInterface) {
 		(*hookInterface)->J9HookUnregister(hookInterface, J9HOOK_VM_RUNTIME_STATE_CHANGED, idleGCManagerVMStateHook, this);
+		(*hookInterface)->J9HookUnregister(hookInterface, J9HOOK_VM_INITIALIZED, idleGCManagerVMInitializedHook, this);
+		(*hookInterface)->J9HookUnregister(hookInterface, J9HOOK_VM_SHUTTING_DOWN, idleGCManagerVMShutdownHook, this);
+	}
+	if (NULL != _pressureMonitor) {
+		omrthread_monitor_destroy(_pressureMonitor);
+		_pressureMonitor = NULL;
 	}
 }
 
 bool
 MM_IdleGCManager::initialize(MM_EnvironmentBase *env)
 {
+	MM_GCExtensions *ext = MM_GCExtensions::getExtensions(env);
 	J9HookInterface **hookInterface = _javaVM->internalVMFunctions->getVMHookInterface(_javaVM);
-	if (NULL != hookInterface && (*hookInterface)->J9HookRegister(hookInterface, J9HOOK_VM_RUNTIME_STATE_CHANGED, idleGCManagerVMStateHook, this)) {
+	if (NULL == hookInterface) {
+		return true;
+	}
+	if (ext->gcOnIdle && (*hookInterface)->J9HookRegister(hookInterface, J9HOOK_VM_RUNTIME_STATE_CHANGED, idleGCManagerVMStateHook, this)) {
 		return false;
 	}
+	if (0 != ext->gcOnMemoryPressureThreshold) {
+		if (0 != omrthread_monitor_init_with_name(&_pressureMonitor, 0, "GC memory pressure monitor")) {
+			_pressureMonitor = NULL;
+			return false;
+		}
+		/* the thread needs a fully initialized VM to attach to */
+		if ((*hookInterface)->J9HookRegister(hookInterface, J9HOOK_VM_INITIALIZED, idleGCManagerVMInitializedHook, this)
+			|| (*hookInterface)->J9HookRegister(hookInterface, J9HOOK_VM_SHUTTING_DOWN, idleGCManagerVMShutdownHook, this)
+		) {
+			return false;
+		}
+	}
 	return true;
 }
 
@@ -87,6 +130,234 @@ MM_IdleGCManager::manageFreeHeap(J9VMThread *currentThread)
 	_javaVM->internalVMFunctions->internalReleaseVMAccess(currentThread);
 }
 
+void
+MM_IdleGCManager::resolveCgroupPath()
+{
+	PORT_ACCESS_FROM_JAVAVM(_javaVM);
+	char buffer[EsMaxPath];
+
+	j9str_printf(_cgroupPath, sizeof(_cgroupPath), "%s", CGROUP_V2_MOUNT_POINT);
+
+	IDATA fd = j9file_open(PROC_SELF_CGROUP_FILE, EsOpenRead, 0);
+	if (-1 != fd) {
+		IDATA bytesRead = j9file_read(fd, buffer, sizeof(buffer) - 1);
+		j9file_close(fd);
+		if (bytesRead > 0) {
+			buffer[bytesRead] = '\0';
+			char *entry = strstr(buffer, PROC_SELF_CGROUP_V2_ENTRY);
+			/* the entry has to start a line, "0::" could also end a cgroup v1 line */
+			while ((NULL != entry) && (entry != buffer) && ('\n' != entry[-1])) {
+				entry = strstr(entry + 1, PROC_SELF_CGROUP_V2_ENTRY);
+			}
+			if (NULL != entry) {
+				char *path = entry + sizeof(PROC_SELF_CGROUP_V2_ENTRY) - 1;
+				char *end = strchr(path, '\n');
+				if (NULL != end) {
+					*end = '\0';
+				}
+				/* "/" is the root of the hierarchy, which is the mount point itself */
+				if (('/' == path[0]) && ('\0' != path[1])) {
+					char cgroupPath[EsMaxPath];
+					j9str_printf(cgroupPath, sizeof(cgroupPath), "%s%s", CGROUP_V2_MOUNT_POINT, path);
+					/* without a cgroup namespace the path may not be visible in the container's mount */
+					if (EsIsDir == j9file_attr(cgroupPath)) {
+						j9str_printf(_cgroupPath, sizeof(_cgroupPath), "%s", cgroupPath);
+					}
+				}
+			}
+		}
+	}
+}
+
+bool
+MM_IdleGCManager::readCgroupFile(const char *fileName, char *buffer, uintptr_t bufferSize)
+{
+	PORT_ACCESS_FROM_JAVAVM(_javaVM);
+	bool result = false;
+	char path[EsMaxPath];
+
+	j9str_printf(path, sizeof(path), "%s/%s", _cgroupPath, fileName);
+	IDATA fd = j9file_open(path, EsOpenRead, 0);
+	if (-1 != fd) {
+		IDATA bytesRead = j9file_read(fd, buffer, bufferSize - 1);
+		j9file_close(fd);
+		if (bytesRead > 0) {
+			buffer[bytesRead] = '\0';
+			result = true;
+		}
+	}
+	return result;
+}
+
+bool
+MM_IdleGCManager::readMemoryPressure(uintptr_t *someAvg10)
+{
+	bool result = false;
+	char buffer[256];
+
+	if (readCgroupFile(MEMORY_PRESSURE_FILE, buffer, sizeof(buffer))) {
+		const char *value = strstr(buffer, MEMORY_PRESSURE_SOME_AVG10);
+		if (NULL != value) {
+			*someAvg10 = (uintptr_t)strtod(value + sizeof(MEMORY_PRESSURE_SOME_AVG10) - 1, NULL);
+			result = true;
+		}
+	}
+	return result;
+}
+
+bool
+MM_IdleGCManager::readMemoryHigh(U_64 *memoryCurrent, U_64 *memoryHigh)
+{
+	char buffer[64];
+
+	/* "max" does not parse as a number, the cgroup is not throttled */
+	if (!readCgroupFile(MEMORY_HIGH_FILE, buffer, sizeof(buffer)) || ((buffer[0] < '0') || (buffer[0] > '9'))) {
+		return false;
+	}
+	*memoryHigh = (U_64)strtoull(buffer, NULL, 10);
+
+	if (!readCgroupFile(MEMORY_CURRENT_FILE, buffer, sizeof(buffer))) {
+		return false;
+	}
+	*memoryCurrent = (U_64)strtoull(buffer, NULL, 10);
+	return true;
+}
+
+void
+MM_IdleGCManager::releaseFreeHeap(J9VMThread *currentThread, uintptr_t someAvg10, U_64 memoryCurrent, U_64 memoryHigh)
+{
+	MM_EnvironmentBase *env = MM_EnvironmentBase::getEnvironment(currentThread->omrVMThread);
+	MM_GCExtensions *ext = MM_GCExtensions::getExtensions(env);
+	PORT_ACCESS_FROM_JAVAVM(_javaVM);
+
+	_javaVM->internalVMFunctions->internalAcquireVMAccess(currentThread);
+	VM_VMAccess::setPublicFlags(currentThread, J9_PUBLIC_FLAGS_NOT_AT_SAFE_POINT);
+	/* same collection as on idle: compacts if fragmented */
+	ext->heap->systemGarbageCollect(env, J9MMCONSTANT_EXPLICIT_GC_IDLE_GC);
+	VM_VMAccess::clearPublicFlags(currentThread, J9_PUBLIC_FLAGS_NOT_AT_SAFE_POINT);
+
+	/* The collection only decommits free heap on idle when -XX:+IdleTuningGcOnIdle is set, so release the
+	 * free pages here. Mutators must not allocate from the free list while its pages are decommitted.
+	 */
+	env->acquireExclusiveVMAccess();
+	uintptr_t releasedPages = ext->heap->getDefaultMemorySpace()->getTenureMemorySubSpace()->releaseFreeMemoryPages(env, MEMORY_TYPE_OLD);
+	env->releaseExclusiveVMAccess();
+	uintptr_t releasedBytes = releasedPages * ext->heap->getPageSize();
+	ext->memoryPressureReleasedBytes += releasedBytes;
+
+	TRIGGER_J9HOOK_MM_MEMORY_PRESSURE_RELEASE(
+		ext->hookInterface,
+		currentThread,
+		j9time_hires_clock(),
+		J9HOOK_MM_MEMORY_PRESSURE_RELEASE,
+		someAvg10,
+		memoryCurrent,
+		memoryHigh,
+		releasedBytes);
+	_javaVM->internalVMFunctions->internalReleaseVMAccess(currentThread);
+}
+
+void
+MM_IdleGCManager::startMemoryPressureThread()
+{
+	omrthread_monitor_enter(_pressureMonitor);
+	_pressureThreadState = MEMORY_PRESSURE_THREAD_STARTING;
+	IDATA rc = _javaVM->internalVMFunctions->createThreadWithCategory(
+			NULL,
+			_javaVM->defaultOSStackSize,
+			J9THREAD_PRIORITY_NORMAL,
+			0,
+			&memoryPressureThreadProc,
+			this,
+			J9THREAD_CATEGORY_SYSTEM_GC_THREAD);
+	if (0 == rc) {
+		while (MEMORY_PRESSURE_THREAD_STARTING == _pressureThreadState) {
+			omrthread_monitor_wait(_pressureMonitor);
+		}
+	} else {
+		_pressureThreadState = MEMORY_PRESSURE_THREAD_STOPPED;
+	}
+	omrthread_monitor_exit(_pressureMonitor);
+}
+
+void
+MM_IdleGCManager::stopMemoryPressureThread()
+{
+	omrthread_monitor_enter(_pressureMonitor);
+	if (MEMORY_PRESSURE_THREAD_RUNNING == _pressureThreadState) {
+		_pressureThreadState = MEMORY_PRESSURE_THREAD_SHOULD_STOP;
+		omrthread_monitor_notify_all(_pressureMonitor);
+	}
+	while (MEMORY_PRESSURE_THREAD_SHOULD_STOP == _pressureThreadState) {
+		omrthread_monitor_wait(_pressureMonitor);
+	}
+	omrthread_monitor_exit(_pressureMonitor);
+}
+
+void
+MM_IdleGCManager::runMemoryPressureThread()
+{
+	MM_GCExtensions *ext = MM_GCExtensions::getExtensions(_javaVM);
+	J9VMThread *vmThread = NULL;
+	bool attached = (JNI_OK == _javaVM->internalVMFunctions->attachSystemDaemonThread(_javaVM, &vmThread, "GC Memory Pressure Monitor"));
+
+	omrthread_monitor_enter(_pressureMonitor);
+	if (attached) {
+		uintptr_t checksSinceRelease = MEMORY_PRESSURE_RELEASE_BACKOFF_CHECKS;
+		bool pressureAvailable = true;
+
+		resolveCgroupPath();
+
+		_pressureThreadState = MEMORY_PRESSURE_THREAD_RUNNING;
+		omrthread_monitor_notify_all(_pressureMonitor);
+
+		while (pressureAvailable && (MEMORY_PRESSURE_THREAD_SHOULD_STOP != _pressureThreadState)) {
+			omrthread_monitor_wait_timed(_pressureMonitor, (I_64)ext->gcOnMemoryPressureCheckInterval, 0);
+			if (MEMORY_PRESSURE_THREAD_SHOULD_STOP != _pressureThreadState) {
+				omrthread_monitor_exit(_pressureMonitor);
+				uintptr_t someAvg10 = 0;
+				/* without cgroup v2 pressure information there is nothing to react to, so stop polling */
+				pressureAvailable = readMemoryPressure(&someAvg10);
+				if (pressureAvailable) {
+					U_64 memoryCurrent = 0;
+					U_64 memoryHigh = 0;
+					/* the kernel starts throttling and reclaiming once usage reaches memory.high */
+					bool highReached = false;
+					if (readMemoryHigh(&memoryCurrent, &memoryHigh)) {
+						highReached = (memoryCurrent >= memoryHigh);
+					} else {
+						memoryCurrent = 0;
+						memoryHigh = 0;
+					}
+					checksSinceRelease += 1;
+					if (((someAvg10 >= ext->gcOnMemoryPressureThreshold) || highReached) && (checksSinceRelease >= MEMORY_PRESSURE_RELEASE_BACKOFF_CHECKS)) {
+						releaseFreeHeap(vmThread, someAvg10, memoryCurrent, memoryHigh);
+						checksSinceRelease = 0;
+					}
+				}
+				omrthread_monitor_enter(_pressureMonitor);
+			}
+		}
+		omrthread_monitor_exit(_pressureMonitor);
+
+		((JavaVM *)_javaVM)->DetachCurrentThread();
+
+		omrthread_monitor_enter(_pressureMonitor);
+	}
+	_pressureThreadState = MEMORY_PRESSURE_THREAD_STOPPED;
+	omrthread_monitor_notify_all(_pressureMonitor);
+	omrthread_exit(_pressureMonitor);
+
+	/* NO GUARANTEED EXECUTION BEYOND THIS POINT */
+}
+
+static int J9THREAD_PROC
+memoryPressureThreadProc(void *arg)
+{
+	((MM_IdleGCManager *)arg)->runMemoryPressureThread();
+	return 0;
+}
+
 extern "C" {
 void
 idleGCManagerVMStateHook(J9HookInterface **hook, uintptr_t eventNum, void *eventData, void *userData)
@@ -99,5 +370,17 @@ idleGCManagerVMStateHook(J9HookInterface **hook, uintptr_t eventNum, void *event
 		idleMgr->manageFreeHeap(j9VMState->vmThread);
 	}
 }
+
+void
+idleGCManagerVMInitializedHook(J9HookInterface **hook, uintptr_t eventNum, void *eventData, void *userData)
+{
+	((MM_IdleGCManager *)userData)->startMemoryPressureThread();
+}
+
+void
+idleGCManagerVMShutdownHook(J9HookInterface **hook, uintptr_t eventNum, void *eventData, void *userData)
+{
+	((MM_IdleGCManager *)userData)->stopMemoryPressureThread();
+}
 } /*end extern "C"  */
 #endif /* defined(OMR_GC_IDLE_HEAP_MANAGER) */
@@ -40,10 +40,22 @@ extern "C" {
  * Manages Heap Free Pages If Current Runtime State is IDLE
  */
 void idleGCManagerVMStateHook(J9HookInterface **hook, uintptr_t eventNum, void *eventData, void *userData);
+/**
+ * Hook "J9HOOK_VM_INITIALIZED" callback function
+ * Starts the memory pressure thread
+ */
+void idleGCManagerVMInitializedHook(J9HookInterface **hook, uintptr_t eventNum, void *eventData, void *userData);
+/**
+ * Hook "J9HOOK_VM_SHUTTING_DOWN" callback function
+ * Stops the memory pressure thread
+ */
+void idleGCManagerVMShutdownHook(J9HookInterface **hook, uintptr_t eventNum, void *eventData, void *userData);
 }
 
 /**
- * Manages free java heap memory whenever JVM becomes idle. Registers for VM Runtime State Notification Hook
+ * Manages free java heap memory whenever JVM becomes idle. Registers for VM Runtime State Notification Hook.
+ * If -XXgc:gcOnMemoryPressureThreshold= is set, also releases free heap while the JVM is busy whenever
+ * the memory pressure of the process's cgroup v2 rises above the threshold, or its memory usage reaches memory.high.
  */
 class MM_IdleGCManager : public MM_BaseNonVirtual
 {
@@ -53,10 +65,58 @@ private:
 	 */
 	J9JavaVM *_javaVM;
 
+	omrthread_monitor_t _pressureMonitor; /**< protects _pressureThreadState, the memory pressure thread sleeps on it between checks */
+	volatile uintptr_t _pressureThreadState; /**< lifecycle of the memory pressure thread, one of the MEMORY_PRESSURE_THREAD_* values */
+	char _cgroupPath[EsMaxPath]; /**< directory of the process's cgroup v2, resolved by the memory pressure thread */
+
 protected:
 public:
+	enum {
+		MEMORY_PRESSURE_THREAD_NONE = 0,
+		MEMORY_PRESSURE_THREAD_STARTING,
+		MEMORY_PRESSURE_THREAD_RUNNING,
+		MEMORY_PRESSURE_THREAD_SHOULD_STOP,
+		MEMORY_PRESSURE_THREAD_STOPPED
+	};
 
 private:
+	/**
+	 * Finds the cgroup v2 directory of the process from /proc/self/cgroup and stores it in _cgroupPath.
+	 * Falls back to the cgroup mount point, which is the process's own cgroup inside a container with a cgroup namespace.
+	 */
+	void resolveCgroupPath();
+	/**
+	 * Reads a file of the process's cgroup
+	 * @param fileName name of the file in the cgroup directory
+	 * @param[out] buffer receives the NUL terminated contents
+	 * @param bufferSize size of buffer
+	 * @return true if the file could be read
+	 */
+	bool readCgroupFile(const char *fileName, char *buffer, uintptr_t bufferSize);
+	/**
+	 * Reads the "some avg10" value of the cgroup v2 memory.pressure file
+	 * @param[out] someAvg10 percentage of the last 10 seconds in which at least one task stalled on memory
+	 * @return true if the value could be read
+	 */
+	bool readMemoryPressure(uintptr_t *someAvg10);
+	/**
+	 * Reads the cgroup v2 memory.current and memory.high files
+	 * @param[out] memoryCurrent bytes currently used by the cgroup
+	 * @param[out] memoryHigh throttling limit of the cgroup in bytes
+	 * @return true if both values could be read and memory.high is set
+	 */
+	bool readMemoryHigh(U_64 *memoryCurrent, U_64 *memoryHigh);
+	/**
+	 * Collects the heap, then decommits the pages of free heap memory and reports the release
+	 * through the J9HOOK_MM_MEMORY_PRESSURE_RELEASE event.
+	 * Decommits the pages itself, so it does not depend on -XX:+IdleTuningGcOnIdle.
+	 * @param currentThread the memory pressure thread
+	 * @param someAvg10 the memory pressure which triggered the release
+	 * @param memoryCurrent bytes used by the cgroup, 0 if memory.high is not set
+	 * @param memoryHigh memory.high of the cgroup, 0 if it is not set
+	 */
+	void releaseFreeHeap(J9VMThread *currentThread, uintptr_t someAvg10, U_64 memoryCurrent, U_64 memoryHigh);
+
 protected:
 	/**
 	 * Initialize the object of this class and registers for Runtime State hook
@@ -80,13 +140,30 @@ public:
 	  */
 	void manageFreeHeap(J9VMThread *currentThread);
 
+	/**
+	 * Starts the memory pressure thread and waits until it has attached to the VM
+	 */
+	void startMemoryPressureThread();
+	/**
+	 * Stops the memory pressure thread and waits until it has detached from the VM
+	 */
+	void stopMemoryPressureThread();
+	/**
+	 * Body of the memory pressure thread: polls the cgroup memory pressure and memory.high and releases
+	 * free heap while either is exceeded. Does not return.
+	 */
+	void runMemoryPressureThread();
+
 	/**
 	 * construct the object
 	 */
 	MM_IdleGCManager(MM_EnvironmentBase *env)
 		: MM_BaseNonVirtual()
 		, _javaVM((J9JavaVM *)env->getOmrVM()->_language_vm)
+		, _pressureMonitor(NULL)
+		, _pressureThreadState(MEMORY_PRESSURE_THREAD_NONE)
 	{
+		_cgroupPath[0] = '\0';
 		_typeId = __FUNCTION__;
 	}
 };
@@ -81,6 +81,12 @@ MM_StringTable::initialize(MM_EnvironmentBase *env)
 	}
 	memset(_mutex, 0, sizeof(omrthread_monitor_t) * _tableCount);
 
+	_stats = (TableStats *)j9mem_allocate_memory(sizeof(TableStats) * _tableCount, OMRMEM_CATEGORY_MM);
+	if (NULL == _stats) {
+		return false;
+	}
+	memset(_stats, 0, sizeof(TableStats) * _tableCount);
+
 	for (UDATA tableIndex = 0; tableIndex < _tableCount; tableIndex++) {
 		_table[tableIndex] = collisionResilientHashTableNew(OMRPORT_FROM_J9PORT(javaVM->portLibrary), J9_GET_CALLSITE(), initialSize, sizeof(UDATA), 0, OMRMEM_CATEGORY_MM, listToTreeThreshold, stringHashFn, stringComparatorFn, NULL, javaVM);
 		if (NULL == _table[tableIndex]) {
@@ -123,6 +129,11 @@ MM_StringTable::tearDown(MM_EnvironmentBase *env)
 		j9mem_free_memory(_mutex);
 		_mutex = NULL;
 	}
+
+	if (NULL != _stats) {
+		j9mem_free_memory(_stats);
+		_stats = NULL;
+	}
 }
 
 
@@ -173,10 +184,24 @@ MM_StringTable::hashAtPut(UDATA tableIndex, j9object_t string)
 		/* Failure to allocate a new node */
 		return NULL;
 	} else {
+		_stats[tableIndex]._inserts += 1;
 		return string;
 	}
 }
 
+void
+MM_StringTable::getStats(TableStats *totals)
+{
+	memset(totals, 0, sizeof(TableStats));
+	totals->_hits = _cacheHits;
+	for (UDATA tableIndex = 0; tableIndex < _tableCount; tableIndex++) {
+		totals->_hits += _stats[tableIndex]._hits;
+		totals->_misses += _stats[tableIndex]._misses;
+		totals->_inserts += _stats[tableIndex]._inserts;
+		totals->_contendedLocks += _stats[tableIndex]._contendedLocks;
+	}
+}
+
 
 j9object_t
 MM_StringTable::addStringToInternTable(J9VMThread *vmThread, j9object_t string)
@@ -191,7 +216,10 @@ MM_StringTable::addStringToInternTable(J9VMThread *vmThread, j9object_t string)
 	internedString = (j9object_t) hashAt(tableIndex, string);
 
 	if (NULL == internedString) {
+		recordInternMiss(tableIndex);
 		internedString = hashAtPut(tableIndex, string);
+	} else {
+		recordInternHit(tableIndex);
 	}
 
 	unlockTable(tableIndex);
@@ -645,6 +673,9 @@ j9gc_createJavaLangString(J9VMThread *vmThread, U_8 *data, UDATA length, UDATA s
 
 		stringTable->lockTable(tableIndex);
 		result = stringTable->hashAtUTF8(tableIndex, data, length, (U_32)hash);
+		if (NULL != result) {
+			stringTable->recordInternHit(tableIndex);
+		}
 		stringTable->unlockTable(tableIndex);
 	}
 
@@ -983,6 +1014,8 @@ j9gc_internString(J9VMThread *vmThread, j9object_t sourceString)
 		 * Pass in candidate twice since we only have one string.
 		 */
 		if (checkStringConstantsLive(vm, candidate, candidate)) {
+			/* no atomic update on the lock-free path, the thread count is flushed with the other thread caches */
+			MM_EnvironmentBase::getEnvironment(vmThread->omrVMThread)->getGCEnvironment()->_stringInternCacheHits += 1;
 			Trc_MM_stringTableCacheHit(vmThread, candidate);
 			return candidate;
 		}
@@ -992,6 +1025,9 @@ j9gc_internString(J9VMThread *vmThread, j9object_t sourceString)
 
 	stringTable->lockTable(tableIndex);
 	internedString = stringTable->hashAt(tableIndex, sourceString);
+	if (NULL != internedString) {
+		stringTable->recordInternHit(tableIndex);
+	}
 	stringTable->unlockTable(tableIndex);
 	
 	if (NULL == internedString) {
@@ -1003,9 +1039,14 @@ j9gc_internString(J9VMThread *vmThread, j9object_t sourceString)
 		if (NULL != newString) {
 			/* newString may move because setupCharArray may trigger a GC */
 			newString = setupCharArray(vmThread, sourceString, newString);
-			if (NULL != newString) {
-				internedString = stringTable->addStringToInternTable(vmThread, newString);
-			}
+		}
+		if (NULL != newString) {
+			/* addStringToInternTable() counts the miss */
+			internedString = stringTable->addStringToInternTable(vmThread, newString);
+		} else {
+			stringTable->lockTable(tableIndex);
+			stringTable->recordInternMiss(tableIndex);
+			stringTable->unlockTable(tableIndex);
 		}
 
 		if (NULL == internedString) {
@@ -28,6 +28,7 @@
 #if !defined(STRING_TABLE_HPP_)
 #define STRING_TABLE_HPP_
 
+#include "AtomicOperations.hpp"
 #include "BaseVirtual.hpp"
 
 #include "j9protos.h"
@@ -36,10 +37,25 @@
 class MM_EnvironmentBase;
 
 class MM_StringTable : public MM_BaseVirtual {
+public:
+	/**
+	 * Intern statistics of one hash sub-table. Every intern request is counted exactly once, either as a hit or as a miss.
+	 * All the fields are updated with the sub-table monitor held. Intern cache hits do not lock the sub-table,
+	 * they are counted per thread and added to _cacheHits when the thread flushes its caches.
+	 */
+	struct TableStats {
+		UDATA _hits;                /**< number of intern requests answered by the intern cache or the sub-table */
+		UDATA _misses;              /**< number of intern requests which had to create a new String */
+		UDATA _inserts;             /**< number of strings added to the sub-table */
+		UDATA _contendedLocks;      /**< number of times the sub-table monitor was already owned when requested */
+	};
+
 private:
 	UDATA _tableCount;              /**< count of hash sub-tables */
 	J9HashTable **_table;           /**< pointer to an array of hash sub-tables */
 	omrthread_monitor_t *_mutex;    /**< pointer to an array of monitors associated with each hash sub-table */
+	TableStats *_stats;             /**< pointer to an array of statistics associated with each hash sub-table */
+	volatile UDATA _cacheHits;      /**< intern cache hits flushed by the threads, which are not attributed to a sub-table */
 
     ddr_constant(cacheSize, 511);
 	j9object_t _cache[cacheSize];   /**< interned string table cash */
@@ -106,7 +122,8 @@ public:
 	j9object_t hashAtPut(UDATA tableIndex, j9object_t string);
 
 	/*
-	 * Check if string is already in the string table and add if not added
+	 * Check if string is already in the string table and add if not added.
+	 * The request is counted as a hit if an equal String was added in the meantime, otherwise as a miss.
 	 * @param vmThread pointer to J9VMThread struct
 	 * @param string object being added to String table
 	 * @return pointer to existing or newly created interned string
@@ -118,7 +135,36 @@ public:
 	 * @param tableIndex index of hash table into the array of sub-tables
 	 */
 	void lockTable(UDATA tableIndex) {
-		omrthread_monitor_enter(_mutex[tableIndex]);
+		if (0 != omrthread_monitor_try_enter(_mutex[tableIndex])) {
+			omrthread_monitor_enter(_mutex[tableIndex]);
+			_stats[tableIndex]._contendedLocks += 1;
+		}
+	}
+
+	/*
+	 * Count an intern request answered by an existing String in the sub-table, the sub-table must be locked
+	 * @param tableIndex index of hash table into the array of sub-tables
+	 */
+	void recordInternHit(UDATA tableIndex) {
+		_stats[tableIndex]._hits += 1;
+	}
+
+	/*
+	 * Count an intern request which had to create a new String, the sub-table must be locked
+	 * @param tableIndex index of hash table into the array of sub-tables
+	 */
+	void recordInternMiss(UDATA tableIndex) {
+		_stats[tableIndex]._misses += 1;
+	}
+
+	/*
+	 * Add the intern cache hits counted by a thread since its last flush
+	 * @param hits number of intern requests answered by the intern cache
+	 */
+	void addCacheHits(UDATA hits) {
+		if (0 != hits) {
+			MM_AtomicOperations::add(&_cacheHits, hits);
+		}
 	}
 
 	/*
@@ -129,6 +175,13 @@ public:
 		omrthread_monitor_exit(_mutex[tableIndex]);
 	}
 
+	/**
+	 * Sum the intern statistics of all the hash sub-tables. The sub-tables are not locked,
+	 * so the result is only approximate while mutator threads are interning strings.
+	 * @param[out] totals the summed statistics
+	 */
+	void getStats(TableStats *totals);
+
 	static MM_StringTable *newInstance(MM_EnvironmentBase *env, UDATA tableCount);
 	virtual void kill(MM_EnvironmentBase *env);
 
@@ -136,7 +189,9 @@ public:
 		MM_BaseVirtual(),
 		_tableCount(tableCount),
 		_table(NULL),
-		_mutex(NULL)
+		_mutex(NULL),
+		_stats(NULL),
+		_cacheHits(0)
 	{
 		_typeId = __FUNCTION__;
 	}
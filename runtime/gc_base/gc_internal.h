@@ -174,6 +174,7 @@ extern J9_CFUNC void j9gc_objaccess_indexableStoreU64Split(J9VMThread *vmThread,
 extern J9_CFUNC void cleanupMutatorModelJava(J9VMThread* vmThread);
 extern J9_CFUNC j9object_t j9gc_objaccess_mixedObjectReadObject(J9VMThread *vmThread, j9object_t srcObject, UDATA offset, UDATA isVolatile);
 extern J9_CFUNC UDATA j9gc_get_objects_pending_finalization_count(J9JavaVM* vm);
+extern J9_CFUNC UDATA j9gc_get_objects_finalized_count(J9JavaVM* vm);
 extern J9_CFUNC void j9gc_objaccess_indexableStoreU16(J9VMThread *vmThread, J9IndexableObject *destObject, I_32 index, U_32 value, UDATA isVolatile);
 extern J9_CFUNC void j9gc_objaccess_jniDeleteGlobalReference(J9VMThread *vmThread, j9object_t reference);
 extern J9_CFUNC UDATA isObjectInMemorySpace(J9VMThread *vmThread, void *memorySpace, j9object_t objectPtr);
@@ -249,6 +250,9 @@ extern J9_CFUNC const char* omrgc_get_version(OMR_VM *omrVM);
 extern J9_CFUNC void j9gc_startGCIfTimeExpired(OMR_VMThread* vmThread);
 extern J9_CFUNC void j9gc_allocation_threshold_changed(J9VMThread* currentThread);
 extern J9_CFUNC void j9gc_set_allocation_sampling_interval(J9JavaVM *vm, UDATA samplingInterval);
+extern J9_CFUNC UDATA j9gc_get_allocation_sites(J9VMThread *vmThread, J9AllocationSite *sites, UDATA maxSites, UDATA *samplingInterval, UDATA *droppedSamples);
+extern J9_CFUNC UDATA j9gc_get_memory_pressure_released_bytes(J9JavaVM *vm);
+extern J9_CFUNC UDATA j9gc_get_utilization_histogram(J9JavaVM *vm, UDATA *histogram, UDATA maxBuckets);
 extern J9_CFUNC void j9gc_set_allocation_threshold(J9VMThread* vmThread, UDATA low, UDATA high);
 extern J9_CFUNC void j9gc_objaccess_recentlyAllocatedObject(J9VMThread *vmThread, J9Object *dstObject);
 extern J9_CFUNC void j9gc_objaccess_postStoreClassToClassLoader(J9VMThread *vmThread, J9ClassLoader* destClassLoader, J9Class* srcClass);
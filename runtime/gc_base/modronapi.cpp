@@ -31,6 +31,7 @@
 #include "modronopt.h"
 #include "modronnls.h"
 
+#include "AllocationSiteSampler.hpp"
 #include "EnvironmentBase.hpp"
 #include "GCExtensions.hpp"
 #include "HeapMemorySnapshot.hpp"
@@ -44,6 +45,10 @@
 #include "OwnableSynchronizerObjectBuffer.hpp"
 #include "ContinuationObjectBuffer.hpp"
 #include "ParallelDispatcher.hpp"
+#if defined(J9VM_GC_REALTIME)
+#include "Scheduler.hpp"
+#include "UtilizationTracker.hpp"
+#endif /* defined(J9VM_GC_REALTIME) */
 #include "MemorySpace.hpp"
 #include "MemorySubSpace.hpp"
 #include "MemoryPoolLargeObjects.hpp"
@@ -917,6 +922,8 @@ j9gc_allocation_threshold_changed(J9VMThread *currentThread)
  *	To disable allocation sampling
  *		j9gc_set_allocation_sampling_interval(vm, UDATA_MAX);
  * The initial MM_GCExtensionsBase::objectSamplingBytesGranularity value is UDATA_MAX.
+ * When the allocation site sampler (-Xgc:allocationSiteSampling) is running, disabling restores
+ * the sampler interval instead, so JVMTI releasing SampledObjectAlloc does not stop the sampler.
  * 
  * @parm[in] vm The J9JavaVM
  * @parm[in] samplingInterval The allocation sampling interval.
@@ -928,6 +935,8 @@ j9gc_set_allocation_sampling_interval(J9JavaVM *vm, UDATA samplingInterval)
 	if (0 == samplingInterval) {
 		/* avoid (env->_traceAllocationBytes) % 0 which could be undefined. */
 		samplingInterval = 1;
+	} else if ((UDATA_MAX == samplingInterval) && (NULL != extensions->allocationSiteSampler)) {
+		samplingInterval = extensions->allocationSiteSamplingInterval;
 	}
 
 	if (samplingInterval != extensions->objectSamplingBytesGranularity) {
@@ -937,6 +946,78 @@ j9gc_set_allocation_sampling_interval(J9JavaVM *vm, UDATA samplingInterval)
 	}
 }
 
+/**
+ * Copy the allocation sites recorded by the allocation site sampler (-Xgc:allocationSiteSampling).
+ * The caller must hold VM access while it uses the J9Method and J9Class pointers in the copy,
+ * they are removed from the sampler when their classes are unloaded.
+ *
+ * @parm[in] vmThread The current VM Thread
+ * @parm[out] sites Array receiving at most maxSites allocation sites
+ * @parm[in] maxSites The capacity of sites
+ * @parm[out] samplingInterval The number of bytes between two samples, 0 if the sampler is not enabled
+ * @parm[out] droppedSamples The number of samples not recorded because the maximum number of sites was reached
+ * @return the number of recorded sites, larger than maxSites if not all of them were copied
+ */
+UDATA
+j9gc_get_allocation_sites(J9VMThread *vmThread, J9AllocationSite *sites, UDATA maxSites, UDATA *samplingInterval, UDATA *droppedSamples)
+{
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vmThread->javaVM);
+	MM_AllocationSiteSampler *sampler = extensions->allocationSiteSampler;
+	UDATA siteCount = 0;
+
+	*samplingInterval = 0;
+	*droppedSamples = 0;
+	if (NULL != sampler) {
+		*samplingInterval = extensions->allocationSiteSamplingInterval;
+		siteCount = sampler->copySites(sites, maxSites, droppedSamples);
+	}
+	return siteCount;
+}
+
+/**
+ * Return the number of bytes of free heap decommitted because of cgroup memory pressure
+ * (-XXgc:gcOnMemoryPressureThreshold) since the VM started.
+ *
+ * @parm[in] vm The J9JavaVM
+ * @return the total bytes released, 0 if the memory pressure monitor is not running
+ */
+UDATA
+j9gc_get_memory_pressure_released_bytes(J9JavaVM *vm)
+{
+	UDATA releasedBytes = 0;
+#if defined(OMR_GC_IDLE_HEAP_MANAGER)
+	releasedBytes = MM_GCExtensions::getExtensions(vm)->memoryPressureReleasedBytes;
+#endif /* defined(OMR_GC_IDLE_HEAP_MANAGER) */
+	return releasedBytes;
+}
+
+/**
+ * Copy the metronome mutator utilization histogram since the VM started.  Each entry counts the GC quanta
+ * which ended with the mutator utilization in that bucket, the buckets are of equal width from 0% to 100%
+ * starting with the lowest utilization.
+ *
+ * @parm[in] vm The J9JavaVM
+ * @parm[out] histogram Where to copy the bucket counts, may be NULL if maxBuckets is 0
+ * @parm[in] maxBuckets The number of entries in histogram
+ * @return the number of buckets in the histogram, 0 if the GC policy is not metronome
+ */
+UDATA
+j9gc_get_utilization_histogram(J9JavaVM *vm, UDATA *histogram, UDATA maxBuckets)
+{
+	UDATA bucketCount = 0;
+#if defined(J9VM_GC_REALTIME)
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
+	if (extensions->isMetronomeGC()) {
+		uintptr_t *totalHistogram = ((MM_Scheduler *)extensions->dispatcher)->_utilTracker->getTotalUtilizationHistogram();
+		bucketCount = UTILIZATION_HISTOGRAM_BUCKETS;
+		for (UDATA i = 0; (i < bucketCount) && (i < maxBuckets); i++) {
+			histogram[i] = totalHistogram[i];
+		}
+	}
+#endif /* defined(J9VM_GC_REALTIME) */
+	return bucketCount;
+}
+
 /**
  * Sets the allocation threshold (VMDESIGN 2006) to trigger a J9HOOK_MM_ALLOCATION_THRESHOLD event
  * whenever an object is allocated on the heap whose is between the lower bound and the upper bound
@@ -92,6 +92,9 @@ BOOLEAN j9gc_get_explicit_GC_disabled(J9JavaVM *javaVM);
 j9object_t j9gc_get_memoryController(J9VMThread *vmContext, j9object_t objectPtr);
 void j9gc_set_memoryController(J9VMThread *vmThread, j9object_t objectPtr, j9object_t memoryController);
 void j9gc_set_allocation_sampling_interval(J9JavaVM *vm, UDATA samplingInterval);
+UDATA j9gc_get_allocation_sites(J9VMThread *vmThread, J9AllocationSite *sites, UDATA maxSites, UDATA *samplingInterval, UDATA *droppedSamples);
+UDATA j9gc_get_memory_pressure_released_bytes(J9JavaVM *vm);
+UDATA j9gc_get_utilization_histogram(J9JavaVM *vm, UDATA *histogram, UDATA maxBuckets);
 void j9gc_set_allocation_threshold(J9VMThread *vmThread, UDATA low, UDATA high);
 UDATA j9gc_get_bytes_allocated_by_thread(J9VMThread *vmThread);
 BOOLEAN j9gc_get_cumulative_bytes_allocated_by_thread(J9VMThread *vmThread, UDATA *cumulativeValue);
@@ -36,6 +36,7 @@
 #include "ReferenceObjectBufferRealtime.hpp"
 #include "ReferenceObjectBufferStandard.hpp"
 #include "ReferenceObjectBufferVLHGC.hpp"
+#include "StringTable.hpp"
 #include "SublistFragment.hpp"
 #include "UnfinalizedObjectBufferRealtime.hpp"
 #include "UnfinalizedObjectBufferStandard.hpp"
@@ -113,6 +114,8 @@ MM_EnvironmentDelegate::tearDown()
 		_gcEnv._continuationObjectBuffer->kill(_env);
 		_gcEnv._continuationObjectBuffer = NULL;
 	}
+
+	flushStringInternCacheHits();
 }
 
 OMR_VMThread *
@@ -163,6 +166,17 @@ MM_EnvironmentDelegate::flushNonAllocationCaches()
 
 	_gcEnv._ownableSynchronizerObjectBuffer->flush(_env);
 	_gcEnv._continuationObjectBuffer->flush(_env);
+	flushStringInternCacheHits();
+}
+
+void
+MM_EnvironmentDelegate::flushStringInternCacheHits()
+{
+	MM_StringTable *stringTable = MM_GCExtensions::getExtensions(_env)->getStringTable();
+	if (NULL != stringTable) {
+		stringTable->addCacheHits(_gcEnv._stringInternCacheHits);
+	}
+	_gcEnv._stringInternCacheHits = 0;
 }
 
 void
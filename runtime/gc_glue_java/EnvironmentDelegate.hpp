@@ -63,6 +63,8 @@ public:
 	MM_UnfinalizedObjectBuffer *_unfinalizedObjectBuffer; /**< The thread-specific buffer of recently allocated unfinalized objects */
 	MM_OwnableSynchronizerObjectBuffer *_ownableSynchronizerObjectBuffer; /**< The thread-specific buffer of recently allocated ownable synchronizer objects */
 	MM_ContinuationObjectBuffer *_continuationObjectBuffer; /**< The thread-specific buffer of recently allocated continuation objects */
+	UDATA _stringInternCacheHits; /**< String intern cache hits of this thread, not yet added to the string table statistics */
+	UDATA _allocationSiteSampleBytes; /**< Bytes allocated by this thread since the allocation site sampler last recorded a sample */
 
 	struct GCmovedObjectHashCode movedObjectHashCodeCache; /**< Structure to aid on object movement and hashing */
 #if defined(J9VM_ENV_DATA64)
@@ -78,6 +80,8 @@ public:
 		,_unfinalizedObjectBuffer(NULL)
 		,_ownableSynchronizerObjectBuffer(NULL)
 		,_continuationObjectBuffer(NULL)
+		,_stringInternCacheHits(0)
+		,_allocationSiteSampleBytes(0)
 #if defined(J9VM_ENV_DATA64)
 		,_shouldFixupDataAddrForContiguous(false)
 #endif /* defined(J9VM_ENV_DATA64) */
@@ -117,6 +121,11 @@ public:
 
 	void flushNonAllocationCaches();
 
+	/**
+	 * Add the String intern cache hits counted by this thread to the string table statistics.
+	 */
+	void flushStringInternCacheHits();
+
 	void setGCMainThread(bool isMainThread);
 
 	/**
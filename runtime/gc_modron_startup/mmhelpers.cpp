@@ -242,6 +242,18 @@ j9gc_get_objects_pending_finalization_count(J9JavaVM *javaVM)
 {
 	return MM_GCExtensions::getExtensions(javaVM)->finalizeListManager->getJobCount();
 }
+
+/**
+ * Return the number of finalize jobs processed since the VM started.
+ * Jobs are counted the same way as in j9gc_get_objects_pending_finalization_count(),
+ * so sampling both gives the depth of the finalize queue and the rate at which it drains.
+ * @return number of finalize jobs processed
+ */
+UDATA
+j9gc_get_objects_finalized_count(J9JavaVM *javaVM)
+{
+	return MM_GCExtensions::getExtensions(javaVM)->finalizeJobsProcessed;
+}
 #endif /* J9VM_GC_FINALIZATION */
 
 UDATA
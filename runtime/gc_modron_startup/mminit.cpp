@@ -54,6 +54,7 @@
 #if defined (J9VM_GC_HEAP_CARD_TABLE)
 #include "CardTable.hpp"
 #endif /* defined (J9VM_GC_HEAP_CARD_TABLE) */
+#include "AllocationSiteSampler.hpp"
 #include "CollectorLanguageInterfaceImpl.hpp"
 #if defined(OMR_GC_MODRON_CONCURRENT_MARK)
 #include "ConcurrentCardTable.hpp"
@@ -525,7 +526,12 @@ j9gc_initialize_heap(J9JavaVM *vm, IDATA *memoryParameterTable, UDATA heapBytesR
 	}
 
 #if defined(OMR_GC_IDLE_HEAP_MANAGER)
-	if (extensions->gcOnIdle) {
+	if ((0 != extensions->gcOnMemoryPressureThreshold) && (gc_policy_gencon != extensions->configurationOptions._gcPolicy)) {
+		/* the memory pressure monitor runs on the idle GC manager, which only exists for gencon */
+		j9nls_printf(PORTLIB, J9NLS_WARNING, J9NLS_GC_OPTIONS_GC_ON_MEMORY_PRESSURE_NOT_SUPPORTED_WARN, extensions->gcModeString);
+		extensions->gcOnMemoryPressureThreshold = 0;
+	}
+	if (extensions->gcOnIdle || (0 != extensions->gcOnMemoryPressureThreshold)) {
 		/* Enable idle tuning only for gencon policy */
 		if (gc_policy_gencon == extensions->configurationOptions._gcPolicy) {
 			extensions->idleGCManager = MM_IdleGCManager::newInstance(&env);
@@ -536,6 +542,13 @@ j9gc_initialize_heap(J9JavaVM *vm, IDATA *memoryParameterTable, UDATA heapBytesR
 	}
 #endif
 
+	if (0 != extensions->allocationSiteSamplingInterval) {
+		extensions->allocationSiteSampler = MM_AllocationSiteSampler::newInstance(&env);
+		if (NULL == extensions->allocationSiteSampler) {
+			goto error_no_memory;
+		}
+	}
+
 	return JNI_OK;
 
 error_no_memory:
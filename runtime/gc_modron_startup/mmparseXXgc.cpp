@@ -1198,6 +1198,32 @@ gcParseXXgcArguments(J9JavaVM *vm, char *optArg)
 			extensions->pageFragmentationCompactThreshold = ((float)percentage) / 100.0f;
 			continue;
 		}
+		if (try_scan(&scan_start, "gcOnMemoryPressureThreshold=")) {
+			UDATA percentage = 0;
+			if(!scan_udata_helper(vm, &scan_start, &percentage, "gcOnMemoryPressureThreshold=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			if(percentage > 100) {
+				j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTIONS_INTEGER_OUT_OF_RANGE, "gcOnMemoryPressureThreshold=", (UDATA)0, (UDATA)100);
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			extensions->gcOnMemoryPressureThreshold = percentage;
+			continue;
+		}
+		if (try_scan(&scan_start, "gcOnMemoryPressureCheckInterval=")) {
+			if(!scan_udata_helper(vm, &scan_start, &extensions->gcOnMemoryPressureCheckInterval, "gcOnMemoryPressureCheckInterval=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			if(0 == extensions->gcOnMemoryPressureCheckInterval) {
+				j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTIONS_VALUE_MUST_BE_ABOVE, "gcOnMemoryPressureCheckInterval=", (UDATA)0);
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
 #endif /* defined(OMR_GC_IDLE_HEAP_MANAGER) */
 
 #if defined (J9VM_GC_VLHGC)
@@ -40,6 +40,7 @@ static const char *versionString = "Modron $Name: not supported by cvs2svn $";
 
 #include "mmparse.h"
 
+#include "FinalizerSupport.hpp"
 #include "GCExtensions.hpp"
 #include "Math.hpp"
 
@@ -1206,6 +1207,24 @@ j9gc_initialize_parse_gc_colon(J9JavaVM *javaVM, char **scan_start)
 		goto _exit;
 	}
 
+	if (try_scan(scan_start, "asyncVerboseLoggingBufferSize=")) {
+		if(!scan_udata_memory_size_helper(javaVM, scan_start, &extensions->asyncVerboseLoggingBufferSize, "asyncVerboseLoggingBufferSize=")) {
+			goto _error;
+		}
+		if(0 == extensions->asyncVerboseLoggingBufferSize) {
+			j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTIONS_VALUE_MUST_BE_ABOVE, "asyncVerboseLoggingBufferSize=", (UDATA)0);
+			goto _error;
+		}
+		goto _exit;
+	}
+
+	if (try_scan(scan_start, "asyncVerboseLogging")) {
+		if (0 == extensions->asyncVerboseLoggingBufferSize) {
+			extensions->asyncVerboseLoggingBufferSize = 1024 * 1024;
+		}
+		goto _exit;
+	}
+
 #if defined(J9VM_GC_VLHGC) || defined(J9VM_GC_GENERATIONAL)
 	/* currently only used by VLHGC -- consider promoting if required for other policies */
 	if (try_scan(scan_start, "numa")) {
@@ -1325,6 +1344,18 @@ gcParseXgcArguments(J9JavaVM *vm, char *optArg)
 			}
 			continue;
 		}
+		if (try_scan(&scan_start, "finalizeWorkerThreads=")) {
+			if(!scan_udata_helper(vm, &scan_start, &extensions->finalizeWorkerThreads, "finalizeWorkerThreads=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			if((extensions->finalizeWorkerThreads < 1) || (extensions->finalizeWorkerThreads > J9_FINALIZE_WORKER_THREADS_MAX)) {
+				j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTIONS_INTEGER_OUT_OF_RANGE, "-Xgc:finalizeWorkerThreads", (UDATA)1, (UDATA)J9_FINALIZE_WORKER_THREADS_MAX);
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
 #endif /* J9VM_GC_FINALIZATION */
 
 #if defined(J9MODRON_USE_CUSTOM_SPINLOCKS)
@@ -1416,6 +1447,39 @@ gcParseXgcArguments(J9JavaVM *vm, char *optArg)
 			continue;
 		}
 
+		/* longer option names first, they share the "allocationSiteSampling" prefix */
+		if (try_scan(&scan_start, "allocationSiteSamplingMaxSites=")) {
+			if (!scan_udata_helper(vm, &scan_start, &extensions->allocationSiteSamplingMaxSites, "allocationSiteSamplingMaxSites=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			if (0 == extensions->allocationSiteSamplingMaxSites) {
+				j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTIONS_VALUE_MUST_BE_ABOVE, "allocationSiteSamplingMaxSites=", (UDATA)0);
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
+
+		if (try_scan(&scan_start, "allocationSiteSampling=")) {
+			if (!scan_udata_memory_size_helper(vm, &scan_start, &extensions->allocationSiteSamplingInterval, "allocationSiteSampling=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			if (0 == extensions->allocationSiteSamplingInterval) {
+				j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTIONS_VALUE_MUST_BE_ABOVE, "allocationSiteSampling=", (UDATA)0);
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
+
+		if (try_scan(&scan_start, "allocationSiteSampling")) {
+			/* same default interval as JVMTI SampledObjectAlloc */
+			extensions->allocationSiteSamplingInterval = 512 * 1024;
+			continue;
+		}
+
 		/* see if we are forcing shifting to a specific value */
 		if (try_scan(&scan_start, "preferredHeapBase=")) {
 			UDATA preferredHeapBase = 0;
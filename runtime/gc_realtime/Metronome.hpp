@@ -43,6 +43,7 @@
 
 #define INTER_YIELD_WARNING_THRESHOLD_NS 80000
 #define UTILIZATION_WINDOW_SIZE 100
+#define UTILIZATION_HISTOGRAM_BUCKETS 10
 
 #define ROOT_GRANULARITY 100
 
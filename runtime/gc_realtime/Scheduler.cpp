@@ -495,6 +495,7 @@ MM_Scheduler::stopGCTime(MM_EnvironmentRealtime *env)
 {
 	if (env->isMainThread()) {
 		setStartTimeOfCurrentMutatorSlice(_utilTracker->addTimeSlice(env, env->getTimer(), false));
+		_utilTracker->recordUtilizationSample();
 	}
 }
 
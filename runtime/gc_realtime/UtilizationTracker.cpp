@@ -82,6 +82,8 @@ MM_UtilizationTracker::initialize(MM_EnvironmentBase *env)
 	_totalSlices = UTILIZATION_WINDOW_SIZE;
 	_timeSliceDuration[_timeSliceCursor] = _timeWindow;
 	_timeSliceIsMutator[_timeSliceCursor++] = 1;
+	resetUtilizationHistogram();
+	memset(_totalUtilizationHistogram, 0, sizeof(_totalUtilizationHistogram));
 	
 	return true;
 }
@@ -222,6 +224,36 @@ MM_UtilizationTracker::getCurrentUtil()
 	return _currentUtilization;
 }
 
+/**
+ * Counts the current utilization in the utilization histogram.  Called at the end of each GC quantum,
+ * when the utilization over the time window is at its lowest.
+ *
+ * @note Synchronization must be provided externally when calling this method.
+ */
+void
+MM_UtilizationTracker::recordUtilizationSample()
+{
+	uintptr_t bucket = 0;
+	if (_currentUtilization > 0.0) {
+		bucket = (uintptr_t)(_currentUtilization * UTILIZATION_HISTOGRAM_BUCKETS);
+		if (bucket >= UTILIZATION_HISTOGRAM_BUCKETS) {
+			bucket = UTILIZATION_HISTOGRAM_BUCKETS - 1;
+		}
+	}
+	_utilizationHistogram[bucket] += 1;
+	_totalUtilizationHistogram[bucket] += 1;
+}
+
+/**
+ * Clears the utilization histogram reported in the verbose GC heartbeat.  The histogram
+ * since the VM started is left alone.
+ */
+void
+MM_UtilizationTracker::resetUtilizationHistogram()
+{
+	memset(_utilizationHistogram, 0, sizeof(_utilizationHistogram));
+}
+
 /**
  * Returns how many nano-seconds we can run for before we violate maxGCSlice or target utilization. 
  */
@@ -62,6 +62,9 @@ private:
 	
 	double _timeSliceDuration[UTILIZATION_WINDOW_SIZE];   /**< How long is the time slice in seconds? */
 	bool _timeSliceIsMutator[UTILIZATION_WINDOW_SIZE];    /**< Is this time slice time spent in the mutator. */
+
+	uintptr_t _utilizationHistogram[UTILIZATION_HISTOGRAM_BUCKETS]; /**< Number of GC quanta by mutator utilization at quantum end, in buckets of equal width from 0% to 100% */
+	uintptr_t _totalUtilizationHistogram[UTILIZATION_HISTOGRAM_BUCKETS]; /**< Same as _utilizationHistogram, but never reset */
 	
 protected:
 public:
@@ -85,6 +88,18 @@ public:
 	U_64 addTimeSlice(MM_EnvironmentRealtime *env, MM_Timer *timer, bool isMutator);
 	double getCurrentUtil();
 	I_64 getNanosLeft(MM_EnvironmentRealtime *env, U_64 sliceStartTimeInNanos);
+	void recordUtilizationSample();
+	void resetUtilizationHistogram();
+
+	/**
+	 * @return the utilization histogram, UTILIZATION_HISTOGRAM_BUCKETS entries starting with the lowest utilization bucket
+	 */
+	MMINLINE uintptr_t *getUtilizationHistogram() { return _utilizationHistogram; }
+
+	/**
+	 * @return the utilization histogram since the VM started, UTILIZATION_HISTOGRAM_BUCKETS entries starting with the lowest utilization bucket
+	 */
+	MMINLINE uintptr_t *getTotalUtilizationHistogram() { return _totalUtilizationHistogram; }
 
 	MM_UtilizationTracker(MM_EnvironmentBase *env, double timeWindow, U_64 maxGCSlice, double targetUtil)
 		: MM_BaseVirtual()
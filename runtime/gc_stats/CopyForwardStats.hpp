@@ -76,6 +76,9 @@ public:
 #endif /* defined(J9VM_GC_SPARSE_HEAP_ALLOCATION) */
 
 	uint64_t _cycleStartTime; /**< The start time of a copy forward cycle */
+	/* The remembered set flush runs before the copy forward stats are cleared, so clear() and merge() leave these alone */
+	uint64_t _rememberedSetFlushTime; /**< Time (hires ticks) spent scanning the collection set RSCLs into the card table ahead of the copy forward */
+	uintptr_t _rememberedSetCardsFlushed; /**< Number of RSCL cards scanned into the card table ahead of the copy forward */
 
 private:
 	
@@ -161,6 +164,9 @@ public:
 		, _offHeapRegionsCleared(0)
 		, _offHeapRegionCandidates(0)
 #endif /* defined(J9VM_GC_SPARSE_HEAP_ALLOCATION) */
+		, _cycleStartTime(0)
+		, _rememberedSetFlushTime(0)
+		, _rememberedSetCardsFlushed(0)
 	{}
 };
 
@@ -27,6 +27,8 @@
 #include "GCExtensions.hpp"
 #include "GCExtensionsBase.hpp"
 #include "Heap.hpp"
+#include "Scheduler.hpp"
+#include "UtilizationTracker.hpp"
 #include "VerboseBuffer.hpp"
 #include "VerboseHandlerRealtime.hpp"
 #include "VerboseManager.hpp"
@@ -284,6 +286,7 @@ MM_VerboseHandlerOutputRealtime::writeHeartbeatData(MM_EnvironmentBase* env, U_6
 		if (0 != _finalizableCountTotal) {
 			writer->formatAndOutput(env, 1, "<finalization enqueued=\"%zu\" />", _finalizableCountTotal);
 		}
+		MM_VerboseHandlerJava::outputStringTableInfo(_manager, env, 1);
 
 		if ((0 != _workPacketOverflowCountTotal) || (0 != _objectOverflowCountTotal)) {
 			writer->formatAndOutput(
@@ -314,6 +317,21 @@ MM_VerboseHandlerOutputRealtime::writeHeartbeatData(MM_EnvironmentBase* env, U_6
 			_maxHeapFree
 		);
 
+		/* mutator utilization seen at the end of each quantum, lowest utilization bucket first */
+		uintptr_t *utilizationHistogram = ((MM_Scheduler *)_extensions->dispatcher)->_utilTracker->getUtilizationHistogram();
+		char histogramBuffer[UTILIZATION_HISTOGRAM_BUCKETS * 21];
+		UDATA histogramLength = 0;
+		for (UDATA i = 0; i < UTILIZATION_HISTOGRAM_BUCKETS; i++) {
+			histogramLength += j9str_printf(histogramBuffer + histogramLength, sizeof(histogramBuffer) - histogramLength, (0 == i) ? "%zu" : " %zu", utilizationHistogram[i]);
+		}
+		writer->formatAndOutput(
+			env, 1 /*indent*/,
+			"<mutator-utilization targetPercent=\"%zu\" buckets=\"%zu\" histogram=\"%s\" />",
+			_extensions->targetUtilizationPercentage,
+			(UDATA)UTILIZATION_HISTOGRAM_BUCKETS,
+			histogramBuffer
+		);
+
 		writer->formatAndOutput(
 			env, 1 /*indent*/,
 			"<thread-priority maxPriority=\"%zu\" minPriority=\"%zu\" />",
@@ -332,6 +350,7 @@ MM_VerboseHandlerOutputRealtime::writeHeartbeatDataAndResetHeartbeatStats(MM_Env
 {
 	writeHeartbeatData(env, timestamp);
 	resetHeartbeatStats();
+	((MM_Scheduler *)_extensions->dispatcher)->_utilTracker->resetUtilizationHistogram();
 }
 
 void
@@ -488,6 +507,7 @@ MM_VerboseHandlerOutputRealtime::handleEvent(MM_MetronomeSynchronousGCEndEvent*
 	if (0 != eventData->finalizableCount) {
 		writer->formatAndOutput(env, 1,"<finalization enqueued=\"%zu\" />", eventData->finalizableCount);
 	}
+	MM_VerboseHandlerJava::outputStringTableInfo(_manager, env, 1);
 
 	writer->formatAndOutput(env, 0, "</gc-op>");
 	writer->flush(env);
@@ -41,6 +41,9 @@
 static void verboseHandlerClassUnloadingEnd(J9HookInterface** hook, uintptr_t eventNum, void* eventData, void* userData);
 #endif /* defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING) */
 static void verboseHandlerSlowExclusive(J9HookInterface **hook, uintptr_t eventNum, void *eventData, void *userData);
+#if defined(OMR_GC_IDLE_HEAP_MANAGER)
+static void verboseHandlerMemoryPressureRelease(J9HookInterface **hook, uintptr_t eventNum, void *eventData, void *userData);
+#endif /* defined(OMR_GC_IDLE_HEAP_MANAGER) */
 
 MM_VerboseHandlerOutput *
 MM_VerboseHandlerOutputStandardJava::newInstance(MM_EnvironmentBase *env, MM_VerboseManager *manager)
@@ -79,6 +82,7 @@ void
 MM_VerboseHandlerOutputStandardJava::outputMemoryInfoInnerStanzaInternal(MM_EnvironmentBase *env, uintptr_t indent, MM_CollectionStatistics *statsBase)
 {
 	MM_VerboseHandlerJava::outputFinalizableInfo(_manager, env, indent);
+	MM_VerboseHandlerJava::outputStringTableInfo(_manager, env, indent);
 	outputContinuationObjectInfo(env, indent);
 }
 
@@ -91,6 +95,9 @@ MM_VerboseHandlerOutputStandardJava::enableVerbose()
 	(*_mmHooks)->J9HookRegisterWithCallSite(_mmHooks, J9HOOK_MM_CLASS_UNLOADING_END, verboseHandlerClassUnloadingEnd, OMR_GET_CALLSITE(), (void *)this);
 #endif /* defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING) */
 	(*_vmHooks)->J9HookRegisterWithCallSite(_vmHooks, J9HOOK_VM_SLOW_EXCLUSIVE, verboseHandlerSlowExclusive, OMR_GET_CALLSITE(), (void *)this);
+#if defined(OMR_GC_IDLE_HEAP_MANAGER)
+	(*_mmHooks)->J9HookRegisterWithCallSite(_mmHooks, J9HOOK_MM_MEMORY_PRESSURE_RELEASE, verboseHandlerMemoryPressureRelease, OMR_GET_CALLSITE(), (void *)this);
+#endif /* defined(OMR_GC_IDLE_HEAP_MANAGER) */
 
 }
 
@@ -103,6 +110,9 @@ MM_VerboseHandlerOutputStandardJava::disableVerbose()
 	(*_mmHooks)->J9HookUnregister(_mmHooks, J9HOOK_MM_CLASS_UNLOADING_END, verboseHandlerClassUnloadingEnd, NULL);
 #endif /* defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING) */
 	(*_vmHooks)->J9HookUnregister(_vmHooks, J9HOOK_VM_SLOW_EXCLUSIVE, verboseHandlerSlowExclusive, NULL);
+#if defined(OMR_GC_IDLE_HEAP_MANAGER)
+	(*_mmHooks)->J9HookUnregister(_mmHooks, J9HOOK_MM_MEMORY_PRESSURE_RELEASE, verboseHandlerMemoryPressureRelease, NULL);
+#endif /* defined(OMR_GC_IDLE_HEAP_MANAGER) */
 
 }
 
@@ -209,6 +219,20 @@ MM_VerboseHandlerOutputStandardJava::handleSlowExclusive(J9HookInterface **hook,
 
 }
 
+#if defined(OMR_GC_IDLE_HEAP_MANAGER)
+void
+MM_VerboseHandlerOutputStandardJava::handleMemoryPressureRelease(J9HookInterface **hook, uintptr_t eventNum, void *eventData)
+{
+	MM_MemoryPressureReleaseEvent *event = (MM_MemoryPressureReleaseEvent *)eventData;
+	MM_EnvironmentBase *env = MM_EnvironmentBase::getEnvironment(event->currentThread->omrVMThread);
+
+	enterAtomicReportingBlock();
+	MM_VerboseHandlerJava::outputMemoryPressureRelease(_manager, env, 0, event);
+	_manager->getWriterChain()->flush(env);
+	exitAtomicReportingBlock();
+}
+#endif /* defined(OMR_GC_IDLE_HEAP_MANAGER) */
+
 #if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
 void
 MM_VerboseHandlerOutputStandardJava::handleClassUnloadEnd(J9HookInterface** hook, uintptr_t eventNum, void* eventData)
@@ -351,3 +375,11 @@ verboseHandlerSlowExclusive(J9HookInterface **hook, uintptr_t eventNum, void *ev
 {
 	((MM_VerboseHandlerOutputStandardJava *)userData)->handleSlowExclusive(hook, eventNum, eventData);
 }
+
+#if defined(OMR_GC_IDLE_HEAP_MANAGER)
+void
+verboseHandlerMemoryPressureRelease(J9HookInterface **hook, uintptr_t eventNum, void *eventData, void *userData)
+{
+	((MM_VerboseHandlerOutputStandardJava *)userData)->handleMemoryPressureRelease(hook, eventNum, eventData);
+}
+#endif /* defined(OMR_GC_IDLE_HEAP_MANAGER) */
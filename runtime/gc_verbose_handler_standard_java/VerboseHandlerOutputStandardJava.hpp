@@ -118,6 +118,16 @@ public:
 	 * @param eventData hook specific event data.
 	 */
 	void handleSlowExclusive(J9HookInterface **hook, uintptr_t eventNum, void *eventData);
+
+#if defined(OMR_GC_IDLE_HEAP_MANAGER)
+	/**
+	 * Write verbose stanza for a release of free heap triggered by cgroup memory pressure.
+	 * @param hook Hook interface used by the JVM.
+	 * @param eventNum The hook event number.
+	 * @param eventData hook specific event data.
+	 */
+	void handleMemoryPressureRelease(J9HookInterface **hook, uintptr_t eventNum, void *eventData);
+#endif /* defined(OMR_GC_IDLE_HEAP_MANAGER) */
 };
 
 #endif /* VERBOSEHANDLEROUTPUTSTANDARDJAVA_HPP_ */
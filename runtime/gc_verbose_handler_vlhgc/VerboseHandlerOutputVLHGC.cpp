@@ -29,6 +29,7 @@
 #include "CycleStateVLHGC.hpp"
 #include "EnvironmentBase.hpp"
 #include "GCExtensions.hpp"
+#include "InterRegionRememberedSet.hpp"
 #include "MarkVLHGCStats.hpp"
 #if defined(J9VM_GC_SPARSE_HEAP_ALLOCATION)
 #include "SparseAddressOrderedFixedSizeDataPool.hpp"
@@ -393,12 +394,17 @@ MM_VerboseHandlerOutputVLHGC::outputMemoryInfoInnerStanza(MM_EnvironmentBase *en
 	}
 
 	MM_VerboseHandlerJava::outputFinalizableInfo(_manager, env, indent);
+	MM_VerboseHandlerJava::outputStringTableInfo(_manager, env, indent);
 	outputContinuationObjectInfo(env, indent);
 	UDATA rememberedSetFreePercent = (UDATA)((100 * (U_64)stats->_rememberedSetBytesFree) / ((U_64)stats->_rememberedSetBytesTotal));
 
-	writer->formatAndOutput(env, indent, "<remembered-set count=\"%zu\" freebytes=\"%zu\" totalbytes=\"%zu\" percent=\"%zu\" regionsoverflowed=\"%zu\" regionsstable=\"%zu\" regionsrebuilding=\"%zu\"/>",
+	/* cumulative overflow count lets consumers derive overflow frequency between two cycles */
+	UDATA rememberedSetOverflowEvents = MM_GCExtensions::getExtensions(env)->interRegionRememberedSet->_overflowEventCountTotal;
+
+	writer->formatAndOutput(env, indent, "<remembered-set count=\"%zu\" freebytes=\"%zu\" totalbytes=\"%zu\" percent=\"%zu\" regionsoverflowed=\"%zu\" regionsstable=\"%zu\" regionsrebuilding=\"%zu\" overflowstotal=\"%zu\"/>",
 			stats->_rememberedSetCount, stats->_rememberedSetBytesFree, stats->_rememberedSetBytesTotal, rememberedSetFreePercent,
-			stats->_rememberedSetOverflowedRegionCount, stats->_rememberedSetStableRegionCount, stats->_rememberedSetBeingRebuiltRegionCount);
+			stats->_rememberedSetOverflowedRegionCount, stats->_rememberedSetStableRegionCount, stats->_rememberedSetBeingRebuiltRegionCount,
+			rememberedSetOverflowEvents);
 }
 
 void
@@ -458,6 +464,9 @@ MM_VerboseHandlerOutputVLHGC::handleCopyForwardEnd(J9HookInterface** hook, UDATA
 				(copyForwardStats->_edenEvacuateRegionCount + copyForwardStats->_nonEdenEvacuateRegionCount - copyForwardStats->_nonEvacuateRegionCount),
 				copyForwardStats->_nonEvacuateRegionCount);
 	}
+	U_64 rememberedSetFlushMicros = j9time_hires_delta(0, copyForwardStats->_rememberedSetFlushTime, J9PORT_TIME_DELTA_IN_MICROSECONDS);
+	writer->formatAndOutput(env, 1, "<remembered-set-flushed cards=\"%zu\" durationms=\"%llu.%03.3llu\" />",
+			copyForwardStats->_rememberedSetCardsFlushed, rememberedSetFlushMicros / 1000, rememberedSetFlushMicros % 1000);
 	outputRememberedSetClearedInfo(env, irrsStats);
 
 #if defined(J9VM_GC_SPARSE_HEAP_ALLOCATION)
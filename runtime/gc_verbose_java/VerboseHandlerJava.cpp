@@ -33,6 +33,7 @@
 #include "VerboseWriterChain.hpp"
 #include "GCExtensions.hpp"
 #include "FinalizeListManager.hpp"
+#include "StringTable.hpp"
 #include "VerboseBuffer.hpp"
 
 void
@@ -51,6 +52,28 @@ MM_VerboseHandlerJava::outputFinalizableInfo(MM_VerboseManager *manager, MM_Envi
 	}
 }
 
+void
+MM_VerboseHandlerJava::outputStringTableInfo(MM_VerboseManager *manager, MM_EnvironmentBase *env, UDATA indent)
+{
+	MM_StringTable *stringTable = MM_GCExtensions::getExtensions(env)->getStringTable();
+	MM_StringTable::TableStats stats;
+
+	stringTable->getStats(&stats);
+	if ((0 != stats._hits) || (0 != stats._misses)) {
+		manager->getWriterChain()->formatAndOutput(env, indent, "<string-table hits=\"%zu\" misses=\"%zu\" inserts=\"%zu\" contended=\"%zu\" />", stats._hits, stats._misses, stats._inserts, stats._contendedLocks);
+	}
+}
+
+#if defined(OMR_GC_IDLE_HEAP_MANAGER)
+void
+MM_VerboseHandlerJava::outputMemoryPressureRelease(MM_VerboseManager *manager, MM_EnvironmentBase *env, UDATA indent, MM_MemoryPressureReleaseEvent *event)
+{
+	manager->getWriterChain()->formatAndOutput(
+			env, indent, "<memory-pressure-release pressure=\"%zu\" memoryCurrent=\"%llu\" memoryHigh=\"%llu\" releasedBytes=\"%zu\" />",
+			event->pressure, event->memoryCurrent, event->memoryHigh, event->releasedBytes);
+}
+#endif /* defined(OMR_GC_IDLE_HEAP_MANAGER) */
+
 bool
 MM_VerboseHandlerJava::getThreadName(char *buf, UDATA bufLen, OMR_VMThread *omrThread)
 {
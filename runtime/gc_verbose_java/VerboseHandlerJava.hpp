@@ -43,6 +43,25 @@ public:
 	 */
 	static void outputFinalizableInfo(MM_VerboseManager *manager, MM_EnvironmentBase *env, UDATA indent);
 
+	/**
+	 * Output string intern table summary.
+	 * @param manager
+	 * @param env GC thread used for output.
+	 * @param indent base level of indentation for the summary.
+	 */
+	static void outputStringTableInfo(MM_VerboseManager *manager, MM_EnvironmentBase *env, UDATA indent);
+
+#if defined(OMR_GC_IDLE_HEAP_MANAGER)
+	/**
+	 * Output a release of free heap triggered by cgroup memory pressure.
+	 * @param manager
+	 * @param env thread used for output.
+	 * @param indent base level of indentation for the stanza.
+	 * @param event the J9HOOK_MM_MEMORY_PRESSURE_RELEASE event data.
+	 */
+	static void outputMemoryPressureRelease(MM_VerboseManager *manager, MM_EnvironmentBase *env, UDATA indent, MM_MemoryPressureReleaseEvent *event);
+#endif /* defined(OMR_GC_IDLE_HEAP_MANAGER) */
+
 	/**
 	 * Output the name of the thread into the buffer.
 	 * @return Whether the thread name was truncated.
@@ -42,6 +42,7 @@
 #include "VerboseHandlerOutputVLHGC.hpp"
 #endif /* defined(J9VM_GC_VLHGC) */
 #include "VerboseWriter.hpp"
+#include "VerboseWriterAsync.hpp"
 #include "VerboseWriterChain.hpp"
 #include "VerboseWriterFileLoggingBuffered.hpp"
 #include "VerboseWriterFileLoggingSynchronous.hpp"
@@ -139,7 +140,9 @@ MM_VerboseManagerJava::createWriter(MM_EnvironmentBase *env, WriterType type, ch
 
 	case VERBOSE_WRITER_FILE_LOGGING_SYNCHRONOUS:
 		writer = MM_VerboseWriterFileLoggingSynchronous::newInstance(env, this, filename, fileCount, iterations);
-		if (NULL == writer) {
+		if (NULL != writer) {
+			writer = createAsyncWriterIfRequested(env, writer);
+		} else {
 			writer = findWriterInChain(VERBOSE_WRITER_STANDARD_STREAM);
 			if (NULL != writer) {
 				writer->isActive(true);
@@ -152,7 +155,9 @@ MM_VerboseManagerJava::createWriter(MM_EnvironmentBase *env, WriterType type, ch
 
 	case VERBOSE_WRITER_FILE_LOGGING_BUFFERED:
 		writer = MM_VerboseWriterFileLoggingBuffered::newInstance(env, this, filename, fileCount, iterations);
-		if (NULL == writer) {
+		if (NULL != writer) {
+			writer = createAsyncWriterIfRequested(env, writer);
+		} else {
 			writer = findWriterInChain(VERBOSE_WRITER_STANDARD_STREAM);
 			if (NULL != writer) {
 				writer->isActive(true);
@@ -170,6 +175,20 @@ MM_VerboseManagerJava::createWriter(MM_EnvironmentBase *env, WriterType type, ch
 	return writer;
 }
 
+MM_VerboseWriter *
+MM_VerboseManagerJava::createAsyncWriterIfRequested(MM_EnvironmentBase *env, MM_VerboseWriter *fileWriter)
+{
+	uintptr_t bufferSize = MM_GCExtensions::getExtensions(env->getOmrVM())->asyncVerboseLoggingBufferSize;
+	if (0 != bufferSize) {
+		MM_VerboseWriter *asyncWriter = MM_VerboseWriterAsync::newInstance(env, fileWriter, bufferSize);
+		if (NULL != asyncWriter) {
+			return asyncWriter;
+		}
+		/* keep writing on the GC thread rather than losing output */
+	}
+	return fileWriter;
+}
+
 void
 MM_VerboseManagerJava::handleFileOpenError(MM_EnvironmentBase *env, char *fileName)
 {
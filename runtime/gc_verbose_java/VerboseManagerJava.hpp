@@ -60,6 +60,14 @@ protected:
 
 	virtual MM_VerboseWriter *createWriter(MM_EnvironmentBase *env, WriterType type, char *filename, UDATA fileCount, UDATA iterations);
 
+	/**
+	 * Wrap a file writer in an MM_VerboseWriterAsync if -Xgc:asyncVerboseLogging was specified.
+	 * @param env[in] The current thread
+	 * @param fileWriter[in] The file writer that was created
+	 * @return The writer to add to the chain, fileWriter if no wrapper is wanted or it could not be created
+	 */
+	MM_VerboseWriter *createAsyncWriterIfRequested(MM_EnvironmentBase *env, MM_VerboseWriter *fileWriter);
+
 	/**
 	 * Create the output handler specific to the kind of collector currently running.
 	 * @param env[in] The main GC thread
@@ -0,0 +1,412 @@
+
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+#include "j9cfg.h"
+#include "j9protos.h"
+#include "jni.h"
+
+#include <string.h>
+
+#include "VerboseWriterAsync.hpp"
+
+#include "EnvironmentBase.hpp"
+#include "GCExtensions.hpp"
+
+#define VERBOSE_WRITER_ASYNC_THREAD_NONE 0 /**< no writer thread has been started, output is queued */
+#define VERBOSE_WRITER_ASYNC_THREAD_STARTING 1 /**< writer thread created but not yet attached */
+#define VERBOSE_WRITER_ASYNC_THREAD_RUNNING 2
+#define VERBOSE_WRITER_ASYNC_THREAD_SHOULD_STOP 3
+#define VERBOSE_WRITER_ASYNC_THREAD_STOPPED 4 /**< writer thread exited or could not be started, output is written synchronously */
+
+static int J9THREAD_PROC verboseWriterAsyncThread(void *arg);
+
+static void
+freeAsyncData(J9JavaVM *javaVM, VerboseWriterAsyncData *data)
+{
+	MM_Forge *forge = MM_GCExtensions::getExtensions(javaVM)->getForge();
+
+	if (NULL != data->monitor) {
+		omrthread_monitor_destroy(data->monitor);
+	}
+	if (NULL != data->buffer) {
+		forge->free(data->buffer);
+	}
+	if (NULL != data->drainBuffer) {
+		forge->free(data->drainBuffer);
+	}
+	forge->free(data);
+}
+
+MM_VerboseWriterAsync::MM_VerboseWriterAsync(MM_EnvironmentBase *env, MM_VerboseWriter *target) :
+	MM_VerboseWriter(target->getType())
+	,_target(target)
+	,_data(NULL)
+{
+	/* no implementation */
+}
+
+/**
+ * Create a new MM_VerboseWriterAsync instance forwarding output to target.
+ * On success the new writer owns target; on failure the caller still does.
+ * @return Pointer to the new MM_VerboseWriterAsync.
+ */
+MM_VerboseWriterAsync *
+MM_VerboseWriterAsync::newInstance(MM_EnvironmentBase *env, MM_VerboseWriter *target, uintptr_t bufferSize)
+{
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(env->getOmrVM());
+
+	MM_VerboseWriterAsync *agent = (MM_VerboseWriterAsync *)extensions->getForge()->allocate(sizeof(MM_VerboseWriterAsync), MM_AllocationCategory::DIAGNOSTIC, J9_GET_CALLSITE());
+	if (agent) {
+		new(agent) MM_VerboseWriterAsync(env, target);
+		if (!agent->initialize(env, bufferSize)) {
+			/* target is not ours until initialization succeeds */
+			agent->_target = NULL;
+			agent->kill(env);
+			agent = NULL;
+		}
+	}
+	return agent;
+}
+
+/**
+ * Initializes the MM_VerboseWriterAsync instance.
+ */
+bool
+MM_VerboseWriterAsync::initialize(MM_EnvironmentBase *env, uintptr_t bufferSize)
+{
+	MM_Forge *forge = MM_GCExtensions::getExtensions(env->getOmrVM())->getForge();
+
+	if (!MM_VerboseWriter::initialize(env)) {
+		return false;
+	}
+
+	_data = (VerboseWriterAsyncData *)forge->allocate(sizeof(VerboseWriterAsyncData), MM_AllocationCategory::DIAGNOSTIC, J9_GET_CALLSITE());
+	if (NULL == _data) {
+		return false;
+	}
+	memset(_data, 0, sizeof(VerboseWriterAsyncData));
+	_data->javaVM = (J9JavaVM *)env->getLanguageVM();
+	_data->target = _target;
+	_data->bufferSize = bufferSize;
+	_data->state = VERBOSE_WRITER_ASYNC_THREAD_NONE;
+
+	_data->buffer = (char *)forge->allocate(bufferSize, MM_AllocationCategory::DIAGNOSTIC, J9_GET_CALLSITE());
+	_data->drainBuffer = (char *)forge->allocate(bufferSize, MM_AllocationCategory::DIAGNOSTIC, J9_GET_CALLSITE());
+	if ((NULL == _data->buffer) || (NULL == _data->drainBuffer)) {
+		return false;
+	}
+
+	if (0 != omrthread_monitor_init_with_name(&_data->monitor, 0, "Verbose GC async writer")) {
+		_data->monitor = NULL;
+		return false;
+	}
+
+	return true;
+}
+
+void
+MM_VerboseWriterAsync::tearDown(MM_EnvironmentBase *env)
+{
+	if (NULL != _data) {
+		freeAsyncData(_data->javaVM, _data);
+		_data = NULL;
+	}
+	if (NULL != _target) {
+		_target->kill(env);
+		_target = NULL;
+	}
+	MM_VerboseWriter::tearDown(env);
+}
+
+/**
+ * Start the background writer thread. Called with the monitor held.
+ * The thread attaches to the VM on its own, so this never waits for it; in particular
+ * it is safe to call from a GC thread holding exclusive VM access.
+ * @return true if the thread was created
+ */
+bool
+MM_VerboseWriterAsync::startWriterThread(MM_EnvironmentBase *env)
+{
+	J9JavaVM *javaVM = _data->javaVM;
+	omrthread_t handle = NULL;
+
+	_data->state = VERBOSE_WRITER_ASYNC_THREAD_STARTING;
+	IDATA result = javaVM->internalVMFunctions->createThreadWithCategory(
+			&handle,
+			javaVM->defaultOSStackSize,
+			J9THREAD_PRIORITY_NORMAL,
+			0,
+			&verboseWriterAsyncThread,
+			_data,
+			J9THREAD_CATEGORY_SYSTEM_GC_THREAD);
+	if (0 != result) {
+		_data->state = VERBOSE_WRITER_ASYNC_THREAD_STOPPED;
+		return false;
+	}
+	return true;
+}
+
+/**
+ * @return true if output should be queued for the writer thread. Called with the monitor held.
+ */
+bool
+MM_VerboseWriterAsync::isWriterThreadActive()
+{
+	return (VERBOSE_WRITER_ASYNC_THREAD_NONE == _data->state)
+		|| (VERBOSE_WRITER_ASYNC_THREAD_STARTING == _data->state)
+		|| (VERBOSE_WRITER_ASYNC_THREAD_RUNNING == _data->state);
+}
+
+/**
+ * Write out everything queued so far on the calling thread.
+ * Only one thread drains at a time so that output stays in order.
+ */
+void
+MM_VerboseWriterAsync::drain(MM_EnvironmentBase *env, VerboseWriterAsyncData *data)
+{
+	beginDrain(data);
+	writeQueued(env, data);
+	endDrain(data);
+}
+
+/**
+ * Wait until no other thread is draining and claim the right to use the target.
+ * Anything that uses the target directly must do so between beginDrain() and endDrain().
+ */
+void
+MM_VerboseWriterAsync::beginDrain(VerboseWriterAsyncData *data)
+{
+	omrthread_monitor_enter(data->monitor);
+	while (data->draining) {
+		omrthread_monitor_wait(data->monitor);
+	}
+	data->draining = true;
+	omrthread_monitor_exit(data->monitor);
+}
+
+/**
+ * Write out everything queued so far, the caller must have called beginDrain().
+ */
+void
+MM_VerboseWriterAsync::writeQueued(MM_EnvironmentBase *env, VerboseWriterAsyncData *data)
+{
+	omrthread_monitor_enter(data->monitor);
+	uintptr_t used = data->writeIndex - data->readIndex;
+	uintptr_t start = data->readIndex % data->bufferSize;
+	uintptr_t firstPart = OMR_MIN(used, data->bufferSize - start);
+	memcpy(data->drainBuffer, data->buffer + start, firstPart);
+	memcpy(data->drainBuffer + firstPart, data->buffer, used - firstPart);
+	data->readIndex = data->writeIndex;
+	uintptr_t dropped = data->droppedStrings;
+	data->droppedStrings = 0;
+	omrthread_monitor_exit(data->monitor);
+
+	if (0 != dropped) {
+		PORT_ACCESS_FROM_JAVAVM(data->javaVM);
+		char message[128];
+		j9str_printf(message, sizeof(message), "<!-- verbose GC output buffer full: %zu strings dropped -->\n", dropped);
+		data->target->outputString(env, message);
+	}
+
+	char *cursor = data->drainBuffer;
+	char *end = data->drainBuffer + used;
+	while (cursor < end) {
+		uintptr_t length = strlen(cursor);
+		if (0 == length) {
+			data->target->endOfCycle(env);
+		} else {
+			data->target->outputString(env, cursor);
+		}
+		cursor += length + 1;
+	}
+}
+
+void
+MM_VerboseWriterAsync::endDrain(VerboseWriterAsyncData *data)
+{
+	omrthread_monitor_enter(data->monitor);
+	data->draining = false;
+	omrthread_monitor_notify_all(data->monitor);
+	omrthread_monitor_exit(data->monitor);
+}
+
+void
+MM_VerboseWriterAsync::outputString(MM_EnvironmentBase *env, const char *string)
+{
+	uintptr_t length = strlen(string) + 1;
+
+	if (1 == length) {
+		/* nothing to write, and an empty string is the end of cycle marker */
+		return;
+	}
+
+	omrthread_monitor_enter(_data->monitor);
+	if (!isWriterThreadActive()) {
+		/* the writer thread could not be started or has exited - write synchronously */
+		omrthread_monitor_exit(_data->monitor);
+		beginDrain(_data);
+		writeQueued(env, _data);
+		_target->outputString(env, string);
+		endDrain(_data);
+		return;
+	}
+
+	if ((VERBOSE_WRITER_ASYNC_THREAD_NONE == _data->state) && !startWriterThread(env)) {
+		omrthread_monitor_exit(_data->monitor);
+		beginDrain(_data);
+		writeQueued(env, _data);
+		_target->outputString(env, string);
+		endDrain(_data);
+		return;
+	}
+
+	uintptr_t used = _data->writeIndex - _data->readIndex;
+	if (length > (_data->bufferSize - used)) {
+		_data->droppedStrings += 1;
+	} else {
+		uintptr_t start = _data->writeIndex % _data->bufferSize;
+		uintptr_t firstPart = OMR_MIN(length, _data->bufferSize - start);
+		memcpy(_data->buffer + start, string, firstPart);
+		memcpy(_data->buffer, string + firstPart, length - firstPart);
+		_data->writeIndex += length;
+	}
+	omrthread_monitor_notify_all(_data->monitor);
+	omrthread_monitor_exit(_data->monitor);
+}
+
+void
+MM_VerboseWriterAsync::endOfCycle(MM_EnvironmentBase *env)
+{
+	omrthread_monitor_enter(_data->monitor);
+	if (isWriterThreadActive() && (0 < (_data->bufferSize - (_data->writeIndex - _data->readIndex)))) {
+		/* queue an empty string so the target sees the end of cycle after the cycle's output */
+		_data->buffer[_data->writeIndex % _data->bufferSize] = '\0';
+		_data->writeIndex += 1;
+		omrthread_monitor_notify_all(_data->monitor);
+		omrthread_monitor_exit(_data->monitor);
+	} else {
+		omrthread_monitor_exit(_data->monitor);
+		beginDrain(_data);
+		writeQueued(env, _data);
+		_target->endOfCycle(env);
+		endDrain(_data);
+	}
+}
+
+bool
+MM_VerboseWriterAsync::reconfigure(MM_EnvironmentBase *env, const char *filename, UDATA fileCount, UDATA iterations)
+{
+	/* Everything queued so far belongs to the old configuration. Keep the writer thread
+	 * from draining into the target while its file is closed and reopened.
+	 */
+	beginDrain(_data);
+	writeQueued(env, _data);
+	bool result = _target->reconfigure(env, filename, fileCount, iterations);
+	endDrain(_data);
+	return result;
+}
+
+/**
+ * Flushes queued output, stops the writer thread and closes the target's stream.
+ */
+void
+MM_VerboseWriterAsync::closeStream(MM_EnvironmentBase *env)
+{
+	/* Write out what is queued on this thread rather than waiting for the writer thread to do it */
+	drain(env, _data);
+
+	omrthread_monitor_enter(_data->monitor);
+	/* A thread which is still attaching must not outlive the stream, the shared data is freed
+	 * with the GC's forge and the thread detaches from the VM. Streams are closed at shutdown
+	 * without exclusive VM access, so the attach either completes or fails.
+	 */
+	while (VERBOSE_WRITER_ASYNC_THREAD_STARTING == _data->state) {
+		omrthread_monitor_wait(_data->monitor);
+	}
+	switch (_data->state) {
+	case VERBOSE_WRITER_ASYNC_THREAD_RUNNING:
+		_data->state = VERBOSE_WRITER_ASYNC_THREAD_SHOULD_STOP;
+		omrthread_monitor_notify_all(_data->monitor);
+		while (VERBOSE_WRITER_ASYNC_THREAD_STOPPED != _data->state) {
+			omrthread_monitor_wait(_data->monitor);
+		}
+		omrthread_monitor_exit(_data->monitor);
+		/* anything queued while the thread was stopping */
+		drain(env, _data);
+		break;
+	default:
+		_data->state = VERBOSE_WRITER_ASYNC_THREAD_STOPPED;
+		omrthread_monitor_exit(_data->monitor);
+		break;
+	}
+
+	_target->closeStream(env);
+}
+
+/**
+ * Writer thread: attaches to the VM, then writes out queued output until asked to stop.
+ */
+static int J9THREAD_PROC
+verboseWriterAsyncThread(void *arg)
+{
+	VerboseWriterAsyncData *data = (VerboseWriterAsyncData *)arg;
+	J9JavaVM *javaVM = data->javaVM;
+	J9VMThread *vmThread = NULL;
+
+	/* May block until a GC in progress releases exclusive VM access */
+	bool attached = (JNI_OK == javaVM->internalVMFunctions->attachSystemDaemonThread(javaVM, &vmThread, "Verbose GC writer"));
+
+	omrthread_monitor_enter(data->monitor);
+	if (!attached) {
+		/* fall back to writing on the GC thread */
+		data->state = VERBOSE_WRITER_ASYNC_THREAD_STOPPED;
+		omrthread_monitor_notify_all(data->monitor);
+		omrthread_monitor_exit(data->monitor);
+		return 0;
+	}
+
+	MM_EnvironmentBase *env = MM_EnvironmentBase::getEnvironment(vmThread->omrVMThread);
+	data->state = VERBOSE_WRITER_ASYNC_THREAD_RUNNING;
+	omrthread_monitor_notify_all(data->monitor);
+
+	while (true) {
+		if (data->writeIndex != data->readIndex) {
+			omrthread_monitor_exit(data->monitor);
+			MM_VerboseWriterAsync::drain(env, data);
+			omrthread_monitor_enter(data->monitor);
+		} else if (VERBOSE_WRITER_ASYNC_THREAD_SHOULD_STOP == data->state) {
+			break;
+		} else {
+			omrthread_monitor_wait(data->monitor);
+		}
+	}
+
+	data->state = VERBOSE_WRITER_ASYNC_THREAD_STOPPED;
+	omrthread_monitor_notify_all(data->monitor);
+	/* data may be freed as soon as the monitor is released */
+	omrthread_monitor_exit(data->monitor);
+
+	((JavaVM *)javaVM)->DetachCurrentThread();
+
+	return 0;
+}
@@ -0,0 +1,88 @@
+
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+#if !defined(VERBOSEWRITERASYNC_HPP_)
+#define VERBOSEWRITERASYNC_HPP_
+
+#include "j9.h"
+#include "j9cfg.h"
+#include "omrthread.h"
+
+#include "VerboseWriter.hpp"
+
+/**
+ * State shared between an MM_VerboseWriterAsync and its writer thread.
+ */
+struct VerboseWriterAsyncData {
+	omrthread_monitor_t monitor; /**< protects all fields below */
+	J9JavaVM *javaVM;
+	MM_VerboseWriter *target; /**< writer that output is forwarded to */
+	char *buffer; /**< ring buffer of NUL terminated strings, an empty string marks the end of a cycle */
+	char *drainBuffer; /**< private copy of the ring buffer contents being written out */
+	uintptr_t bufferSize;
+	uintptr_t readIndex; /**< total bytes consumed from the ring buffer */
+	uintptr_t writeIndex; /**< total bytes added to the ring buffer */
+	uintptr_t droppedStrings; /**< strings dropped since the last drain because the buffer was full */
+	uintptr_t state; /**< one of the VERBOSE_WRITER_ASYNC_THREAD_* values */
+	bool draining; /**< set while a thread is writing out the drain buffer */
+};
+
+/**
+ * Output agent which hands verbosegc output to a background thread that forwards it to
+ * another writer (typically a file writer), so that slow log volumes do not extend GC pauses.
+ * If the buffer fills up, output is dropped and the number of dropped strings is reported
+ * in the log once there is room again.
+ */
+class MM_VerboseWriterAsync : public MM_VerboseWriter
+{
+private:
+	MM_VerboseWriter *_target; /**< writer that output is forwarded to, owned by this writer */
+	VerboseWriterAsyncData *_data; /**< state shared with the writer thread */
+
+	bool startWriterThread(MM_EnvironmentBase *env);
+	bool isWriterThreadActive();
+
+protected:
+	MM_VerboseWriterAsync(MM_EnvironmentBase *env, MM_VerboseWriter *target);
+
+	bool initialize(MM_EnvironmentBase *env, uintptr_t bufferSize);
+	virtual void tearDown(MM_EnvironmentBase *env);
+
+public:
+	static MM_VerboseWriterAsync *newInstance(MM_EnvironmentBase *env, MM_VerboseWriter *target, uintptr_t bufferSize);
+
+	static void drain(MM_EnvironmentBase *env, VerboseWriterAsyncData *data);
+	static void beginDrain(VerboseWriterAsyncData *data);
+	static void writeQueued(MM_EnvironmentBase *env, VerboseWriterAsyncData *data);
+	static void endDrain(VerboseWriterAsyncData *data);
+
+	virtual bool reconfigure(MM_EnvironmentBase *env, const char *filename, UDATA fileCount, UDATA iterations);
+
+	virtual void endOfCycle(MM_EnvironmentBase *env);
+
+	virtual void closeStream(MM_EnvironmentBase *env);
+
+	virtual void outputString(MM_EnvironmentBase *env, const char *string);
+};
+
+#endif /* VERBOSEWRITERASYNC_HPP_ */
@@ -29,6 +29,7 @@
 
 #include "CardListFlushTask.hpp"
 
+#include "AtomicOperations.hpp"
 #include "CardTable.hpp"
 #include "CycleState.hpp"
 #include "EnvironmentVLHGC.hpp"
@@ -111,6 +112,7 @@ MM_CardListFlushTask::run(MM_EnvironmentBase *envBase)
 	MM_HeapRegionDescriptorVLHGC *region = NULL;
 	MM_InterRegionRememberedSet *interRegionRememberedSet = extensions->interRegionRememberedSet;
 	bool shouldFlushBuffersForUnregisteredRegions = interRegionRememberedSet->getShouldFlushBuffersForDecommitedRegions();
+	UDATA cardsScanned = 0;
 
 	while (NULL != (region = regionIterator.nextRegion())) {
 		if (NULL != region->getMemoryPool()) {
@@ -121,6 +123,7 @@ MM_CardListFlushTask::run(MM_EnvironmentBase *envBase)
 					GC_RememberedSetCardListCardIterator rsclCardIterator(region->getRememberedSetCardList());
 					UDATA card = 0;
 					while(0 != (card = rsclCardIterator.nextReferencingCard(env))) {
+						cardsScanned += 1;
 						/* For Marking purposes we do not need to track references within Collection Set */
 						MM_HeapRegionDescriptorVLHGC *referencingRegion = interRegionRememberedSet->tableDescriptorForRememberedSetCard(card);
 						if (interRegionRememberedSet->cardMayContainObjects(card, referencingRegion, markMap) && !referencingRegion->_markData._shouldMark) {
@@ -163,10 +166,15 @@ MM_CardListFlushTask::run(MM_EnvironmentBase *envBase)
 					}
 					UDATA totalCountAfter = region->getRememberedSetCardList()->getSize(env);
 					Assert_MM_true(totalCountBefore == (toRemoveCount + totalCountAfter));
+					cardsScanned += toRemoveCount;
 				}
 			}
 		}
 	}
+
+	if (0 != cardsScanned) {
+		MM_AtomicOperations::add(&_cardsScanned, cardsScanned);
+	}
 }
 
 void
@@ -60,6 +60,7 @@ private:
 	MM_CycleState * const _cycleState;
 protected:
 public:
+	volatile UDATA _cardsScanned;	/**< Number of RSCL cards scanned into the card table by all threads running this task */
 
 	/* Member Functions */
 private:
@@ -94,6 +95,7 @@ public:
 		, _regionManager(manager)
 		, _interRegionRememberedSet(remset)
 		, _cycleState(env->_cycleState)
+		, _cardsScanned(0)
 	{
 		_typeId = __FUNCTION__;
 	}
@@ -1283,9 +1283,14 @@ MM_IncrementalGenerationalGC::reportGCEnd(MM_EnvironmentBase *env)
 void
 MM_IncrementalGenerationalGC::flushRememberedSetIntoCardTable(MM_EnvironmentVLHGC *env)
 {
+	PORT_ACCESS_FROM_ENVIRONMENT(env);
+	MM_CopyForwardStats *copyForwardStats = &static_cast<MM_CycleStateVLHGC*>(env->_cycleState)->_vlhgcIncrementStats._copyForwardStats;
 	MM_ParallelDispatcher *dispatcher = _extensions->dispatcher;
 	MM_CardListFlushTask flushTask(env, dispatcher, _regionManager, _interRegionRememberedSet);
+	U_64 startTime = j9time_hires_clock();
 	dispatcher->run(env, &flushTask);
+	copyForwardStats->_rememberedSetFlushTime = j9time_hires_clock() - startTime;
+	copyForwardStats->_rememberedSetCardsFlushed = flushTask._cardsScanned;
 }
 
 bool
@@ -57,6 +57,7 @@ MM_InterRegionRememberedSet::MM_InterRegionRememberedSet(MM_HeapRegionManager *h
 	, _regionSize(0)
 	, _shouldFlushBuffersForDecommitedRegions(false)
 	, _overflowedRegionCount(0)
+	, _overflowEventCountTotal(0)
 	, _stableRegionCount(0)
 	, _beingRebuiltRegionCount(0)
 	, _unusedRegionThreshold(0.0)
@@ -524,6 +525,7 @@ MM_InterRegionRememberedSet::enqueueOverflowedRscl(MM_EnvironmentVLHGC *env, MM_
 {
 	/* have to use atomic update, since other overflowed RSCLs can be updating it concurrently */
 	MM_AtomicOperations::add(&_overflowedRegionCount, 1);
+	MM_AtomicOperations::add(&_overflowEventCountTotal, 1);
 
 	rsclToEnqueue->_nonEmptyOverflowedNext = NULL;
 	/* make sure rsclToEnqueue->_nonEmptyOverflowedNext does not point to a stale RSCL before we make it visible to the other users of the list */
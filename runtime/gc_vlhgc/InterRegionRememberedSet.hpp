@@ -72,6 +72,7 @@ public:
 	bool _shouldFlushBuffersForDecommitedRegions;			/**< set to true at the end of a GC, if contraction occured. this is a signal for the next GC to perform flush buffers from regions contracted */
 
 	volatile UDATA _overflowedRegionCount;					/**< count of regions overflowed as full */
+	volatile UDATA _overflowEventCountTotal;				/**< cumulative count of RSCL overflow events since startup (never decremented) */
 	UDATA _stableRegionCount;								/**< count of regions overflowed as stable */
 	volatile UDATA _beingRebuiltRegionCount;				/**< count of overflowed regions currently being rebuilt */
 	double _unusedRegionThreshold;							/**< fraction of region unused (free&fragmented) to be considered full (used for stable region detection) */
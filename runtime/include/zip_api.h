@@ -52,6 +52,9 @@ extern "C" {
 /* Accept the file as a zip file even if it does not start with a local header */
 #define J9ZIP_OPEN_ALLOW_NONSTANDARD_ZIP 2
 
+/* Map a cached zip file into memory and read entry data from the mapping instead of the file descriptor. */
+#define J9ZIP_OPEN_MMAP 4
+
 /* Empty set of options */
 #define J9ZIP_GETENTRY_NO_FLAGS 0
 
@@ -33,6 +33,7 @@
 #include "jclprots.h"
 #include "jni.h"
 #include "ut_j9jcl.h"
+#include "util_api.h"
 
 /* require for new string merging primitives */
 #include "stackwalk.h"
@@ -70,6 +71,11 @@ static UDATA heapStatisticsHashFn(void *key, void *userData);
 static UDATA printHeapStatistics(JNIEnv *env,J9HeapStatisticsTableEntry **statsArray,
 		UDATA numClasses, char *stringBuffer, UDATA bufferSize);
 static int compareByAggregateSize(const void *a, const void *b);
+static int compareBySampleCount(const void *a, const void *b);
+static UDATA printClassName(J9PortLibrary *portLib, J9Class *clazz, const char *suffix,
+		char *stringBuffer, UDATA bufferSize);
+static UDATA printAllocationSites(J9VMThread *vmThread, J9AllocationSite *sites, UDATA siteCount,
+		UDATA samplingInterval, UDATA droppedSamples, char *stringBuffer, UDATA bufferSize);
 
 void JNICALL
 Java_com_ibm_oti_vm_VM_localGC(JNIEnv *env, jclass clazz)
@@ -275,31 +281,7 @@ printHeapStatistics(JNIEnv *env,J9HeapStatisticsTableEntry **statsArray,
 		);
 		bufferCursor += result;
 		bufferSize -= result;
-		if (J9CLASS_IS_ARRAY(currentClass)) {
-			J9ArrayClass *arrayClazz = (J9ArrayClass*)currentClass;
-			UDATA arity = arrayClazz->arity;
-			J9Class *leafComponentType = arrayClazz->leafComponentType;
-			J9ROMClass *leafROMClass = leafComponentType->romClass;
-			J9UTF8 *leafName = J9ROMCLASS_CLASSNAME(leafROMClass);
-			UDATA isPrimitive = J9ROMCLASS_IS_PRIMITIVE_TYPE(leafROMClass);
-			UDATA i = 0;
-			for (i = 0; i < arity; ++i) {
-				result = j9str_printf(bufferCursor, bufferSize, "[");
-				bufferCursor += result;
-				bufferSize -= result;
-			}
-			if (isPrimitive) {
-				result = j9str_printf(bufferCursor, bufferSize, "%c\n",
-						J9UTF8_DATA(J9ROMCLASS_CLASSNAME(leafComponentType->arrayClass->romClass))[1]);
-			} else {
-				result = j9str_printf(bufferCursor, bufferSize, "L%.*s;\n",
-						J9UTF8_LENGTH(leafName), J9UTF8_DATA(leafName));
-			}
-		} else {
-			J9UTF8 *className = J9ROMCLASS_CLASSNAME(currentClass->romClass);
-			result = j9str_printf(bufferCursor, bufferSize, "%.*s\n",
-					J9UTF8_LENGTH(className), J9UTF8_DATA(className));
-		}
+		result = printClassName(PORTLIB, currentClass, "\n", bufferCursor, bufferSize);
 		bufferCursor += result;
 		bufferSize -= result;
 		cumulativeCount += statsArray[classCursor]->objectCount;
@@ -313,6 +295,211 @@ printHeapStatistics(JNIEnv *env,J9HeapStatisticsTableEntry **statsArray,
 	return (result > 0) ? (bufferCursor - stringBuffer) : 0;
 }
 
+/**
+ * Print the name of a class followed by suffix.
+ * Array classes are printed in their signature form, e.g. [I or [[Ljava/lang/String;
+ * @return the number of characters printed, or 0 if the buffer is too small
+ */
+static UDATA
+printClassName(J9PortLibrary *portLib, J9Class *clazz, const char *suffix,
+		char *stringBuffer, UDATA bufferSize)
+{
+	char *bufferCursor = stringBuffer;
+	UDATA result = 0;
+
+	PORT_ACCESS_FROM_PORT(portLib);
+
+	if (J9CLASS_IS_ARRAY(clazz)) {
+		J9ArrayClass *arrayClazz = (J9ArrayClass*)clazz;
+		UDATA arity = arrayClazz->arity;
+		J9Class *leafComponentType = arrayClazz->leafComponentType;
+		J9ROMClass *leafROMClass = leafComponentType->romClass;
+		J9UTF8 *leafName = J9ROMCLASS_CLASSNAME(leafROMClass);
+		UDATA i = 0;
+		for (i = 0; i < arity; ++i) {
+			result = j9str_printf(bufferCursor, bufferSize, "[");
+			bufferCursor += result;
+			bufferSize -= result;
+		}
+		if (J9ROMCLASS_IS_PRIMITIVE_TYPE(leafROMClass)) {
+			result = j9str_printf(bufferCursor, bufferSize, "%c%s",
+					J9UTF8_DATA(J9ROMCLASS_CLASSNAME(leafComponentType->arrayClass->romClass))[1], suffix);
+		} else {
+			result = j9str_printf(bufferCursor, bufferSize, "L%.*s;%s",
+					J9UTF8_LENGTH(leafName), J9UTF8_DATA(leafName), suffix);
+		}
+	} else {
+		J9UTF8 *className = J9ROMCLASS_CLASSNAME(clazz->romClass);
+		result = j9str_printf(bufferCursor, bufferSize, "%.*s%s",
+				J9UTF8_LENGTH(className), J9UTF8_DATA(className), suffix);
+	}
+	bufferCursor += result;
+	return (result > 0) ? (bufferCursor - stringBuffer) : 0;
+}
+
+/**
+ * Return a String object listing the allocation sites recorded by the GC allocation site sampler
+ * (-Xgc:allocationSiteSampling), sorted by number of samples in descending order.
+ * This string inserts Unix-style line separators.  The caller is responsible for translating them if necessary.
+ */
+jstring JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getAllocationSitesImpl(JNIEnv *env, jclass unused)
+{
+	J9VMThread *vmThread = (J9VMThread *) env;
+	J9JavaVM *vm = vmThread->javaVM;
+	J9InternalVMFunctions *vmFuncs = vm->internalVMFunctions;
+	BOOLEAN outOfMemory = FALSE;
+	j9object_t stringObject = NULL;
+	jstring stringObjectRef = NULL;
+	J9AllocationSite *sites = NULL;
+	UDATA maxSites = 256;
+	UDATA siteCount = 0;
+	UDATA samplingInterval = 0;
+	UDATA droppedSamples = 0;
+
+	PORT_ACCESS_FROM_ENV(env);
+
+	/* VM access keeps the classes and methods of the copied sites from being unloaded */
+	vmFuncs->internalEnterVMFromJNI(vmThread);
+
+	for (;;) {
+		sites = j9mem_allocate_memory(maxSites * sizeof(J9AllocationSite), J9MEM_CATEGORY_VM_JCL);
+		if (NULL == sites) {
+			outOfMemory = TRUE;
+			break;
+		}
+		siteCount = vm->memoryManagerFunctions->j9gc_get_allocation_sites(vmThread, sites, maxSites, &samplingInterval, &droppedSamples);
+		if (siteCount <= maxSites) {
+			break;
+		}
+		/* more sites were recorded than fit, retry with room for all of them */
+		j9mem_free_memory(sites);
+		sites = NULL;
+		maxSites = siteCount;
+	}
+
+	if (NULL != sites) {
+		UDATA printedLength = 0;
+		UDATA bufferSize = 0;
+		qsort(sites, siteCount, sizeof(J9AllocationSite), compareBySampleCount);
+		do {
+			char *stringBuffer = NULL;
+			bufferSize += (siteCount + 2) * 160; /* try incrementally larger sizes */
+			stringBuffer = (char *) j9mem_allocate_memory(bufferSize, J9MEM_CATEGORY_VM_JCL);
+			if (NULL == stringBuffer) {
+				outOfMemory = TRUE;
+				break;
+			}
+			printedLength = printAllocationSites(vmThread, sites, siteCount, samplingInterval, droppedSamples, stringBuffer, bufferSize);
+			if (printedLength > 0) {
+				stringObject = vm->memoryManagerFunctions->j9gc_createJavaLangString(vmThread,
+						(U_8 *) stringBuffer, printedLength, J9_STR_XLAT);
+				stringObjectRef = vmFuncs->j9jni_createLocalRef(env, stringObject);
+			}
+			j9mem_free_memory(stringBuffer);
+		} while (0 == printedLength);
+		j9mem_free_memory(sites);
+	}
+
+	if (outOfMemory) {
+		vm->internalVMFunctions->setNativeOutOfMemoryError(vmThread, 0, 0);
+	}
+	vm->internalVMFunctions->internalExitVMToJNI(vmThread);
+
+	return stringObjectRef;
+}
+
+/**
+ * Arguments are allocation sites.
+ * Compare such that the list is sorted in descending order of samples.
+ */
+static int
+compareBySampleCount(const void *a, const void *b)
+{
+	const J9AllocationSite *aSite = (const J9AllocationSite *) a;
+	const J9AllocationSite *bSite = (const J9AllocationSite *) b;
+	int result = 0;
+	if (bSite->sampleCount < aSite->sampleCount) {
+		result = -1;
+	} else if (bSite->sampleCount > aSite->sampleCount) {
+		result = 1;
+	}
+	return result;
+}
+
+static UDATA
+printAllocationSites(J9VMThread *vmThread, J9AllocationSite *sites, UDATA siteCount,
+		UDATA samplingInterval, UDATA droppedSamples, char *stringBuffer, UDATA bufferSize)
+{
+	J9JavaVM *vm = vmThread->javaVM;
+	char *bufferCursor = stringBuffer;
+	UDATA siteCursor = 0;
+	UDATA result = 0;
+
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	if (0 == samplingInterval) {
+		result = j9str_printf(bufferCursor, bufferSize,
+				"Allocation site sampling is not enabled, use -Xgc:allocationSiteSampling[=<bytes>]\n");
+		return (result > 0) ? result : 0;
+	}
+
+	result = j9str_printf(bufferCursor, bufferSize,
+			"Sampling interval %zu bytes, %zu samples dropped\n"
+			"%5s %10s %14s %14s    %s\n-------------------------------------------------\n",
+			samplingInterval, droppedSamples,
+			"num", "samples", "sampled size", "estimated size", "class name at allocation site"
+	);
+	bufferCursor += result;
+	bufferSize -= result;
+	for (siteCursor = 0; (result > 0) && (siteCursor < siteCount); ++siteCursor) {
+		J9AllocationSite *site = &sites[siteCursor];
+		J9Class *clazz = site->clazz;
+
+		result = j9str_printf(bufferCursor, bufferSize,
+				"%5zu %10zu %14zu %14zu    ",
+				siteCursor + 1, site->sampleCount, site->sampledBytes,
+				site->sampleCount * samplingInterval
+		);
+		bufferCursor += result;
+		bufferSize -= result;
+
+		/* array classes are printed in the same form as in GC.class_histogram */
+		result = printClassName(PORTLIB, clazz, " at ", bufferCursor, bufferSize);
+		bufferCursor += result;
+		bufferSize -= result;
+
+		if (NULL == site->method) {
+			result = j9str_printf(bufferCursor, bufferSize, "<unknown>\n");
+		} else {
+			J9ROMMethod *romMethod = J9_ROM_METHOD_FROM_RAM_METHOD(site->method);
+			J9UTF8 *declaringClassName = J9ROMCLASS_CLASSNAME(J9_CLASS_FROM_METHOD(site->method)->romClass);
+			J9UTF8 *methodName = J9ROMMETHOD_NAME(romMethod);
+			J9UTF8 *methodSignature = J9ROMMETHOD_SIGNATURE(romMethod);
+
+			result = j9str_printf(bufferCursor, bufferSize, "%.*s.%.*s%.*s",
+					J9UTF8_LENGTH(declaringClassName), J9UTF8_DATA(declaringClassName),
+					J9UTF8_LENGTH(methodName), J9UTF8_DATA(methodName),
+					J9UTF8_LENGTH(methodSignature), J9UTF8_DATA(methodSignature));
+			bufferCursor += result;
+			bufferSize -= result;
+			if (J9_ARE_ANY_BITS_SET(romMethod->modifiers, J9AccNative)) {
+				result = j9str_printf(bufferCursor, bufferSize, " (Native Method)\n");
+			} else {
+				UDATA lineNumber = getLineNumberForROMClass(vm, site->method, site->bytecodeOffset);
+				if ((UDATA)-1 == lineNumber) {
+					result = j9str_printf(bufferCursor, bufferSize, " (bytecode %zu)\n", site->bytecodeOffset);
+				} else {
+					result = j9str_printf(bufferCursor, bufferSize, " (line %zu)\n", lineNumber);
+				}
+			}
+		}
+		bufferCursor += result;
+		bufferSize -= result;
+	}
+	return (result > 0) ? (bufferCursor - stringBuffer) : 0;
+}
+
 /* The string that keeps its original bytes is string1.
  * String2 has its bytes set to be string1-> bytes if the offsets already match and the bytes are not already set to the same value
  * The bytes being set already could happen frequently as this primitive will be used repeatedly to remerge strings in the runtime
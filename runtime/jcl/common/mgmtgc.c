@@ -84,6 +84,37 @@ Java_com_ibm_java_lang_management_internal_GarbageCollectorMXBeanImpl_getMemoryU
 	return getCollectorField(env, id, FIELD_MEMORY_USED);
 }
 
+jlongArray JNICALL
+Java_com_ibm_java_lang_management_internal_GarbageCollectorMXBeanImpl_getMutatorUtilizationHistogramImpl(JNIEnv *env, jobject beanInstance)
+{
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	J9MemoryManagerFunctions *mmFuncs = javaVM->memoryManagerFunctions;
+	UDATA bucketCount = mmFuncs->j9gc_get_utilization_histogram(javaVM, NULL, 0);
+	UDATA *histogram = NULL;
+	jlongArray result = NULL;
+	UDATA i = 0;
+	PORT_ACCESS_FROM_JAVAVM(javaVM);
+
+	if (0 != bucketCount) {
+		histogram = j9mem_allocate_memory(bucketCount * sizeof(UDATA), J9MEM_CATEGORY_VM_JCL);
+		if (NULL == histogram) {
+			javaVM->internalVMFunctions->throwNativeOOMError(env, 0, 0);
+			return NULL;
+		}
+		mmFuncs->j9gc_get_utilization_histogram(javaVM, histogram, bucketCount);
+	}
+
+	result = (*env)->NewLongArray(env, (jsize)bucketCount);
+	if (NULL != result) {
+		for (i = 0; i < bucketCount; i++) {
+			jlong count = (jlong)histogram[i];
+			(*env)->SetLongArrayRegion(env, result, (jsize)i, 1, &count);
+		}
+	}
+	j9mem_free_memory(histogram);
+	return result;
+}
+
 static UDATA
 getIndexFromCollectorID(J9JavaLangManagementData *mgmt, UDATA id)
 {
@@ -173,6 +173,24 @@ Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getObjectPendingFina
 #endif
 }
 
+jlong JNICALL
+Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getObjectFinalizedCountImpl(JNIEnv *env, jobject beanInstance)
+{
+#if defined(J9VM_GC_FINALIZATION)
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	return (jlong)javaVM->memoryManagerFunctions->j9gc_get_objects_finalized_count(javaVM);
+#else
+	return (jlong)0;
+#endif
+}
+
+jlong JNICALL
+Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getMemoryPressureReleasedBytesImpl(JNIEnv *env, jobject beanInstance)
+{
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	return (jlong)javaVM->memoryManagerFunctions->j9gc_get_memory_pressure_released_bytes(javaVM);
+}
+
 jboolean JNICALL
 Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_isVerboseImpl(JNIEnv *env, jobject beanInstance)
 {
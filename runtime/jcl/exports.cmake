@@ -39,6 +39,7 @@ omr_add_exports(jclse
 	Java_com_ibm_java_lang_management_internal_GarbageCollectorMXBeanImpl_getLastCollectionEndTimeImpl
 	Java_com_ibm_java_lang_management_internal_GarbageCollectorMXBeanImpl_getLastCollectionStartTimeImpl
 	Java_com_ibm_java_lang_management_internal_GarbageCollectorMXBeanImpl_getMemoryUsedImpl
+	Java_com_ibm_java_lang_management_internal_GarbageCollectorMXBeanImpl_getMutatorUtilizationHistogramImpl
 	Java_com_ibm_java_lang_management_internal_GarbageCollectorMXBeanImpl_getTotalCompactsImpl
 	Java_com_ibm_java_lang_management_internal_GarbageCollectorMXBeanImpl_getTotalMemoryFreedImpl
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_createMemoryManagers
@@ -51,8 +52,10 @@ omr_add_exports(jclse
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getMaxHeapSizeImpl
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getMaxHeapSizeLimitImpl
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getMaximumGCThreadsImpl
+	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getMemoryPressureReleasedBytesImpl
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getMinHeapSizeImpl
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getNonHeapMemoryUsageImpl
+	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getObjectFinalizedCountImpl
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getObjectPendingFinalizationCountImpl
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getSharedClassCacheMaxAotUnstoredBytesImpl
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getSharedClassCacheMaxJitDataUnstoredBytesImpl
@@ -241,6 +244,7 @@ omr_add_exports(jclse
 	Java_com_ibm_lang_management_internal_UnixExtendedOperatingSystem_getMaxFileDescriptorCountImpl
 	Java_com_ibm_lang_management_internal_UnixExtendedOperatingSystem_getOpenFileDescriptorCountImpl
 	Java_openj9_internal_tools_attach_target_DiagnosticUtils_getHeapClassStatisticsImpl
+	Java_openj9_internal_tools_attach_target_DiagnosticUtils_getAllocationSitesImpl
 	Java_openj9_internal_tools_attach_target_DiagnosticUtils_dumpAllThreadsImpl
 	Java_openj9_internal_tools_attach_target_DiagnosticUtils_triggerDumpsImpl
 	Java_openj9_management_internal_IDCacheInitializer_initIDCache
@@ -95,6 +95,9 @@ typedef struct J9JVMTIHeapData {
 
 	jvmtiHeapTags	 tags;
 
+	J9Class          * classTagCacheClass; /** class whose tag is cached in classTagCacheTag, or NULL */
+	jlong              classTagCacheTag;   /** cached tag of classTagCacheClass */
+
 	const jvmtiHeapCallbacks *callbacks;
 } J9JVMTIHeapData;
 
@@ -120,6 +123,7 @@ static void mapEventType(J9JVMTIHeapData * data, IDATA type, jint index, j9objec
 static void jvmtiFollowRefs_getTags(J9JVMTIHeapData * iteratorData, j9object_t  referrer, j9object_t  object); 
 static UDATA jvmtiHeapFollowRefs_getStackData(J9JVMTIHeapData * iteratorData, J9MM_StackSlotDescriptor *stackSlotDescriptor);
 static IDATA heapReferenceFilter(J9JVMTIHeapData * iteratorData);
+static jlong getClassTag(J9JVMTIHeapData * iteratorData, J9Class * clazz);
 
 
 #ifdef JVMTI_HEAP_DEBUG
@@ -507,6 +511,8 @@ jvmtiFollowReferences(jvmtiEnv* env, jint heap_filter, jclass klass, jobject ini
 		iteratorData.userData = (void *) user_data;
 		iteratorData.clazz = 0;
 		iteratorData.rc = JVMTI_ERROR_NONE;
+		iteratorData.classTagCacheClass = NULL;
+		iteratorData.classTagCacheTag = 0;
 		
 		/* Do not report anything if the class filter set by the user is an interface class.  Quote from the spec:
 		 * "If klass is an interface, no objects are reported. This applies to both the object and primitive callbacks." 
@@ -657,10 +663,8 @@ followReferencesCallback(j9object_t *slotPtr, j9object_t referrer, void *userDat
 		JVMTI_HEAP_CHECK_ITERATION_ABORT(visitRc);
 	}
 
-	/* TODO: There has got to be a better way of checking if an object is a String or not */
 	if (iteratorData->callbacks->string_primitive_value_callback) {
-		J9UTF8 *clazzName = J9ROMCLASS_CLASSNAME(clazz->romClass);
-		if (J9UTF8_LENGTH(clazzName) == 16 && !memcmp(J9UTF8_DATA(clazzName), "java/lang/String", 16)) {
+		if (clazz == J9VMJAVALANGSTRING_OR_NULL(vm)) {
 			visitRc = wrap_stringPrimitiveCallback(vm, iteratorData);
 			JVMTI_HEAP_CHECK_RC(iteratorData->rc);
 			JVMTI_HEAP_CHECK_ITERATION_ABORT(visitRc);
@@ -1009,9 +1013,7 @@ jvmtiFollowRefs_getTags(J9JVMTIHeapData * iteratorData, j9object_t  referrer, j9
 	
 	/* get the class (of object) tag */
 	clazz = J9OBJECT_CLAZZ(iteratorData->currentThread, object);
-	entry.ref = J9VM_J9CLASS_TO_HEAPCLASS(clazz);
-	result = hashTableFind(iteratorData->env->objectTagTable, &entry);
-	iteratorData->tags.classTag = (result == NULL) ? 0 : result->tag;
+	iteratorData->tags.classTag = getClassTag(iteratorData, clazz);
 
 	/* The referrer argument for stack slot events carries metadata rather then
 	 * the usual j9object, ignore it here */   
@@ -1023,9 +1025,7 @@ jvmtiFollowRefs_getTags(J9JVMTIHeapData * iteratorData, j9object_t  referrer, j9
 
 		/* get the referrer object class tag */
 		clazz = J9OBJECT_CLAZZ(iteratorData->currentThread, referrer);
-		entry.ref = J9VM_J9CLASS_TO_HEAPCLASS(clazz);
-		result = hashTableFind(iteratorData->env->objectTagTable, &entry);
-		iteratorData->tags.referrerClassTag = (result == NULL) ? 0 : result->tag;
+		iteratorData->tags.referrerClassTag = getClassTag(iteratorData, clazz);
 	} else {
 		iteratorData->tags.referrerObjectTag = 0;
 		iteratorData->tags.referrerClassTag = 0;
@@ -1036,6 +1036,36 @@ jvmtiFollowRefs_getTags(J9JVMTIHeapData * iteratorData, j9object_t  referrer, j9
 
 
 
+/**
+ * \brief	Look up the tag of a class
+ * \ingroup	jvmti.heap
+ *
+ * @param[in] iteratorData	iteration structure containing misc data
+ * @param[in] clazz		class whose tag is requested
+ * @return			the class tag, 0 if the class is not tagged
+ *
+ *	Heap walks tend to visit many objects of the same class in a row, so the tag of
+ *	the last class looked up is cached to save a tag table lookup per object.
+ *	updateObjectTag() drops the cached entry when the tag of that class object changes.
+ */
+static jlong
+getClassTag(J9JVMTIHeapData * iteratorData, J9Class * clazz)
+{
+	if (clazz != iteratorData->classTagCacheClass) {
+		J9JVMTIObjectTag entry;
+		J9JVMTIObjectTag *result;
+
+		entry.ref = J9VM_J9CLASS_TO_HEAPCLASS(clazz);
+		result = hashTableFind(iteratorData->env->objectTagTable, &entry);
+		iteratorData->classTagCacheTag = (result == NULL) ? 0 : result->tag;
+		iteratorData->classTagCacheClass = clazz;
+	}
+
+	return iteratorData->classTagCacheTag;
+}
+
+
+
 /** 
  * \brief	GC event mapper 
  * \ingroup     jvmti.heap
@@ -1316,6 +1346,8 @@ jvmtiError JNICALL jvmtiIterateThroughHeap(jvmtiEnv* env,
 		iteratorData.userData = (void *) user_data;
 		iteratorData.clazz = 0;
 		iteratorData.rc = JVMTI_ERROR_NONE;
+		iteratorData.classTagCacheClass = NULL;
+		iteratorData.classTagCacheTag = 0;
 	     
 		/* Do not report anything if the class filter set by the user is an interface class.  Quote from the spec:
 		 * "If klass is an interface, no objects are reported. This applies to both the object and primitive callbacks." 
@@ -1325,7 +1357,17 @@ jvmtiError JNICALL jvmtiIterateThroughHeap(jvmtiEnv* env,
 		if (iteratorData.classFilter && (iteratorData.classFilter->romClass->modifiers & J9AccInterface)) {
 			goto done;
 		}
-    
+
+		/* None of the callbacks used by IterateThroughHeap are set, so nothing can be reported.
+		 * Skip the walk instead of stopping the world for it. */
+		if ((NULL == callbacks->heap_iteration_callback)
+			&& (NULL == callbacks->array_primitive_value_callback)
+			&& (NULL == callbacks->primitive_field_callback)
+			&& (NULL == callbacks->string_primitive_value_callback)
+		) {
+			goto done;
+		}
+
 		vmFuncs->acquireExclusiveVMAccess(currentThread);
 		ensureHeapWalkable(currentThread);
 
@@ -1429,10 +1471,8 @@ iterateThroughHeapCallback(J9JavaVM *vm, J9MM_IterateObjectDescriptor *objectDes
 		JVMTI_HEAP_CHECK_ITERATION_ABORT(visitRc);
 	}
 
-	/* TODO: There has got to be a better way of checking if an object is a String or not */
 	if (iteratorData->callbacks->string_primitive_value_callback) {
-		J9UTF8 *clazzName = J9ROMCLASS_CLASSNAME(clazz->romClass);
-		if (J9UTF8_LENGTH(clazzName) == 16 && !memcmp(J9UTF8_DATA(clazzName), "java/lang/String", 16)) {
+		if (clazz == J9VMJAVALANGSTRING_OR_NULL(vm)) {
 			visitRc = wrap_stringPrimitiveCallback(vm, iteratorData);
 			JVMTI_HEAP_CHECK_RC(iteratorData->rc);
 			JVMTI_HEAP_CHECK_ITERATION_ABORT(visitRc);
@@ -2005,7 +2045,15 @@ updateObjectTag(J9JVMTIHeapData * iteratorData, j9object_t object, jlong *origin
 {
 	J9JVMTIObjectTag entry;
 	J9JVMTIObjectTag *resultTag;
-	
+
+	/* The cached class tag goes stale if the tag of that class object changes */
+	if ((NULL != iteratorData->classTagCacheClass)
+		&& (object == J9VM_J9CLASS_TO_HEAPCLASS(iteratorData->classTagCacheClass))
+		&& (*originalTag != newTag)
+	) {
+		iteratorData->classTagCacheClass = NULL;
+	}
+
 	/* The callback could have added or removed the tag. Modify the hashtable entry to
 	 * account for it */
 	if (*originalTag != 0) {
@@ -371,6 +371,7 @@ extern "C" {
 
 /* constants for J9JavaVM.extendedRuntimeFlags3 */
 #define J9_EXTENDED_RUNTIME3_START_FLIGHT_RECORDING 0x1
+#define J9_EXTENDED_RUNTIME3_MAP_ZIP_FILES 0x2
 
 #define J9_OBJECT_HEADER_AGE_DEFAULT 0xA /* OBJECT_HEADER_AGE_DEFAULT */
 #define J9_OBJECT_HEADER_SHAPE_MASK 0xE /* OBJECT_HEADER_SHAPE_MASK */
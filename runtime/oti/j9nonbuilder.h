@@ -4612,6 +4612,15 @@ typedef struct J9InternalVMLabels {
 	void* cInterpreter;
 } J9InternalVMLabels;
 
+/* An allocation site recorded by the GC allocation site sampler (-Xgc:allocationSiteSampling). */
+typedef struct J9AllocationSite {
+	struct J9Method *method;
+	UDATA bytecodeOffset;
+	struct J9Class *clazz;
+	UDATA sampleCount;
+	UDATA sampledBytes;
+} J9AllocationSite;
+
 typedef struct J9MemoryManagerFunctions {
 	j9object_t  ( *J9AllocateIndexableObject)(struct J9VMThread *vmContext, J9Class *clazz, U_32 size, UDATA allocateFlags) ;
 	j9object_t  ( *J9AllocateObject)(struct J9VMThread *vmContext, J9Class *clazz, UDATA allocateFlags) ;
@@ -4702,6 +4711,7 @@ typedef struct J9MemoryManagerFunctions {
 	UDATA  ( *j9gc_ext_check_is_valid_heap_object)(struct J9JavaVM *javaVM, j9object_t ptr, UDATA flags) ;
 #if defined(J9VM_GC_FINALIZATION)
 	UDATA  ( *j9gc_get_objects_pending_finalization_count)(struct J9JavaVM* vm) ;
+	UDATA  ( *j9gc_get_objects_finalized_count)(struct J9JavaVM* vm) ;
 #endif /* defined(J9VM_GC_FINALIZATION) */
 	UDATA  ( *j9gc_set_softmx)(struct J9JavaVM *javaVM, UDATA newsoftmx) ;
 	UDATA  ( *j9gc_get_softmx)(struct J9JavaVM *javaVM) ;
@@ -4815,6 +4825,9 @@ typedef struct J9MemoryManagerFunctions {
 	UDATA  ( *j9gc_arraylet_getLeafSize)(struct J9JavaVM* javaVM) ;
 	UDATA  ( *j9gc_arraylet_getLeafLogSize)(struct J9JavaVM* javaVM) ;
 	void  ( *j9gc_set_allocation_sampling_interval)(struct J9JavaVM *vm, UDATA samplingInterval);
+	UDATA  ( *j9gc_get_allocation_sites)(struct J9VMThread *vmThread, struct J9AllocationSite *sites, UDATA maxSites, UDATA *samplingInterval, UDATA *droppedSamples) ;
+	UDATA  ( *j9gc_get_memory_pressure_released_bytes)(struct J9JavaVM *vm) ;
+	UDATA  ( *j9gc_get_utilization_histogram)(struct J9JavaVM *vm, UDATA *histogram, UDATA maxBuckets) ;
 	void  ( *j9gc_set_allocation_threshold)(struct J9VMThread *vmThread, UDATA low, UDATA high) ;
 	void  ( *j9gc_objaccess_recentlyAllocatedObject)(struct J9VMThread *vmThread, J9Object *dstObject) ;
 	void  ( *j9gc_objaccess_postStoreClassToClassLoader)(struct J9VMThread* vmThread, J9ClassLoader* destClassLoader, J9Class* srcClass) ;
@@ -6274,7 +6287,9 @@ typedef struct J9JavaVM {
 	volatile U_32 cacheMiss;
 	volatile U_32 t2store;
 	volatile U_32 cacheFree;
+	volatile U_32 cacheFreeOversizedStack;
 	volatile U_64 totalContinuationStackSize;
+	UDATA continuationMaxCachedStackSize;
 #if defined(J9VM_PROF_CONTINUATION_ALLOCATION)
 	volatile I_64 avgCacheLookupTime;
 	volatile U_32 fastAlloc;
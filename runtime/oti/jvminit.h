@@ -591,6 +591,9 @@ enum INIT_STAGE {
 
 #define VMOPT_XXCONTINUATIONCACHE "-XX:ContinuationCache:"
 
+#define VMOPT_XXMAPZIPFILES "-XX:+MapZipFiles"
+#define VMOPT_XXNOMAPZIPFILES "-XX:-MapZipFiles"
+
 #if JAVA_SPEC_VERSION >= 22
 #define VMOPT_XFFIPROTO "-Xffiproto"
 #endif /* JAVA_SPEC_VERSION >= 22 */
@@ -144,6 +144,7 @@ static jvmtiTest jvmtiTestList[] =
 	{ "snmp001",     snmp001,    "com.ibm.jvmti.tests.setNativeMethodPrefix.snmp001", "Tests setting a native method prefix and disposing a subsequent environment"},
 #if JAVA_SPEC_VERSION >= 11	
 	{ "soae001", soae001, "com.ibm.jvmti.tests.samplingObjectAllocation.soae001", "Test JEP331 low-overhead sampling heap object allocation" },
+	{ "soae002", soae002, "com.ibm.jvmti.tests.samplingObjectAllocation.soae002", "Test the GC allocation site sampler keeps sampling when JVMTI sampling is enabled and disabled" },
 #endif /* JAVA_SPEC_VERSION >= 11 */
 	{ "gsp001", gsp001, "com.ibm.jvmti.tests.getSystemProperty.gsp001", "Ensure JVMTI GetSystemProperty can retrieve certain system properties at early phrase" },
 	{ "ee001", ee001, "com.ibm.jvmti.tests.eventException.ee001", "Ensure only single JVMTI Exception event gets generated with JNI frame before handler" },
@@ -226,6 +226,9 @@ if(NOT JAVA_SPEC_VERSION LESS 11)
 		Java_com_ibm_jvmti_tests_samplingObjectAllocation_soae001_enable
 		Java_com_ibm_jvmti_tests_samplingObjectAllocation_soae001_disable
 		Java_com_ibm_jvmti_tests_samplingObjectAllocation_soae001_check
+		Java_com_ibm_jvmti_tests_samplingObjectAllocation_soae002_enable
+		Java_com_ibm_jvmti_tests_samplingObjectAllocation_soae002_disable
+		Java_com_ibm_jvmti_tests_samplingObjectAllocation_soae002_check
 	)
 endif()
 
@@ -1584,6 +1584,9 @@ criuCheckpointJVMImpl(JNIEnv *env,
 		UDATA oldVMState = VM_VMHelpers::setVMState(currentThread, J9VMSTATE_CRIU_SUPPORT_CHECKPOINT_PHASE_START);
 		UDATA notSafeToCheckpoint = 0;
 		U_32 intGhostFileLimit = 0;
+		UDATA heapTotalBeforeCheckpointGC = 0;
+		UDATA heapFreeBeforeCheckpointGC = 0;
+		int mallocTrimmed = 0;
 		IDATA criuDumpReturnCode = 0;
 		bool restoreFailure = false;
 
@@ -1793,7 +1796,12 @@ criuCheckpointJVMImpl(JNIEnv *env,
 		 * temporarily while this happens.
 		 */
 		vm->extendedRuntimeFlags2 &= ~J9_EXTENDED_RUNTIME2_CRIU_SINGLE_THROW_BLOCKING_EXCEPTIONS;
+		heapTotalBeforeCheckpointGC = vm->memoryManagerFunctions->j9gc_heap_total_memory(vm);
+		heapFreeBeforeCheckpointGC = vm->memoryManagerFunctions->j9gc_heap_free_memory(vm);
 		vm->memoryManagerFunctions->j9gc_prepare_for_checkpoint(currentThread);
+		Trc_VM_criu_checkpoint_heap_trimmed(currentThread,
+				heapTotalBeforeCheckpointGC, heapFreeBeforeCheckpointGC,
+				vm->memoryManagerFunctions->j9gc_heap_total_memory(vm), vm->memoryManagerFunctions->j9gc_heap_free_memory(vm));
 		vm->extendedRuntimeFlags2 |= J9_EXTENDED_RUNTIME2_CRIU_SINGLE_THROW_BLOCKING_EXCEPTIONS;
 
 		acquireSafeOrExcusiveVMAccess(currentThread, safePoint);
@@ -1834,7 +1842,8 @@ criuCheckpointJVMImpl(JNIEnv *env,
 
 		TRIGGER_J9HOOK_VM_CRIU_CHECKPOINT(vm->hookInterface, currentThread);
 
-		malloc_trim(0);
+		mallocTrimmed = malloc_trim(0);
+		Trc_VM_criu_checkpoint_malloc_trim(currentThread, mallocTrimmed);
 		Trc_VM_criu_before_checkpoint(currentThread, j9time_nano_time(), j9time_current_time_nanos(&success));
 
 		VM_VMHelpers::setVMState(currentThread, J9VMSTATE_CRIU_SUPPORT_CHECKPOINT_PHASE_END);
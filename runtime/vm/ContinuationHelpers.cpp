@@ -33,6 +33,19 @@
 #include "VMHelpers.hpp"
 
 
+/**
+ * Size of the stack allocated for a new continuation.
+ */
+static VMINLINE UDATA
+initialContinuationStackSize(J9JavaVM *vm)
+{
+#if defined(J9VM_INTERP_GROWABLE_STACKS)
+	return (vm->initialStackSize > (UDATA)vm->stackSize) ? vm->stackSize : vm->initialStackSize;
+#else /* defined(J9VM_INTERP_GROWABLE_STACKS) */
+	return vm->stackSize;
+#endif /* defined(J9VM_INTERP_GROWABLE_STACKS) */
+}
+
 extern "C" {
 
 BOOLEAN
@@ -91,21 +104,13 @@ createContinuation(J9VMThread *currentThread, j9object_t continuationObject)
 			goto end;
 		}
 
-#ifdef J9VM_INTERP_GROWABLE_STACKS
-#define VMTHR_INITIAL_STACK_SIZE ((vm->initialStackSize > (UDATA) vm->stackSize) ? vm->stackSize : vm->initialStackSize)
-#else
-#define VMTHR_INITIAL_STACK_SIZE vm->stackSize
-#endif
-
-		if ((stack = allocateJavaStack(vm, VMTHR_INITIAL_STACK_SIZE, NULL)) == NULL) {
+		if ((stack = allocateJavaStack(vm, initialContinuationStackSize(vm), NULL)) == NULL) {
 			vm->internalVMFunctions->setNativeOutOfMemoryError(currentThread, 0, 0);
 			j9mem_free_memory(continuation);
 			result = FALSE;
 			goto end;
 		}
 
-#undef VMTHR_INITIAL_STACK_SIZE
-
 #if defined(J9VM_PROF_CONTINUATION_ALLOCATION)
 		I_64 totalTime = (I_64)j9time_hires_delta(start, j9time_hires_clock(), OMRPORT_TIME_DELTA_IN_NANOSECONDS);
 		if (totalTime > 10000) {
@@ -360,8 +365,20 @@ recycleContinuation(J9JavaVM *vm, J9VMThread *vmThread, J9VMContinuation* contin
 {
 	PORT_ACCESS_FROM_JAVAVM(vm);
 	bool cached = false;
+	UDATA maxCachedStackSize = vm->continuationMaxCachedStackSize;
 	vm->totalContinuationStackSize += continuation->stackObject->size;
 
+	if (0 == maxCachedStackSize) {
+		maxCachedStackSize = initialContinuationStackSize(vm);
+	}
+	if (continuation->stackObject->size > maxCachedStackSize) {
+		/* The stack has grown past the size worth keeping. Caching it would hand the grown
+		 * stack to an unrelated continuation and keep the memory committed indefinitely.
+		 */
+		vm->cacheFreeOversizedStack += 1;
+		goto FREE;
+	}
+
 	if (!skipLocalCache && (0 < vm->continuationT1Size)) {
 		/* If called by carrier thread (not global), try to store in local cache first.
 		 * Allocate cacheArray if it doesn't exist.
@@ -398,13 +415,13 @@ T2:
 				break;
 			}
 		}
-
-		if (!cached) {
-			vm->cacheFree += 1;
-			/* Caching failed, free the J9VMContinuation struct. */
-			freeJavaStack(vm, continuation->stackObject);
-			j9mem_free_memory(continuation);
-		}
+	}
+FREE:
+	if (!cached) {
+		vm->cacheFree += 1;
+		/* Caching failed, free the J9VMContinuation struct. */
+		freeJavaStack(vm, continuation->stackObject);
+		j9mem_free_memory(continuation);
 	}
 }
 
@@ -426,6 +443,20 @@ isPinnedContinuation(J9VMThread *currentThread)
 		/* Do nothing. */
 	}
 
+	if (0 != result) {
+		/* A pinned continuation keeps its carrier thread blocked; trace the counts which caused
+		 * it so that monitors held across blocking operations can be found with -Xtrace.
+		 */
+		Trc_VM_isPinnedContinuation_pinned(
+				currentThread,
+				currentThread,
+				currentThread->currentContinuation,
+				result,
+				currentThread->continuationPinCount,
+				currentThread->ownedMonitorCount,
+				currentThread->callOutCount);
+	}
+
 	return result;
 }
 
@@ -1914,11 +1914,13 @@ processMemoryInterleaveOptions(J9JavaVM * vm)
 
 #if JAVA_SPEC_VERSION >= 19
 /**
- * -XX:ContinuationCache:t1=<U_32>,t2=<U_32>
+ * -XX:ContinuationCache:t1=<U_32>,t2=<U_32>,maxStackSize=<U_32>
  *
  * This helper searches for and consumes the Continuation cache option,
  * if option found, it is parsed based on the above syntax.
  * if option not found, default values are set for T1 and T2 cache size.
+ * maxStackSize is the largest stack (in bytes) that is kept with a cached
+ * continuation; 0 (the default) means the initial continuation stack size.
  *
  * Returns 0 on success, -1 if option parsing failed.
  */
@@ -1943,6 +1945,9 @@ processContinuationCacheOptions(J9JavaVM *vm)
 					vm->continuationT2Size = cacheSize;
 					rc = 0;
 				}
+			} else if (try_scan(&cursor, "maxStackSize=") && (0 == omr_scan_u32(&cursor, &cacheSize))) {
+				vm->continuationMaxCachedStackSize = cacheSize;
+				rc = 0;
 			} else if (try_scan(&cursor, "printSummary")) {
 				/* Set VM flag. */
 				vm->extendedRuntimeFlags2 |= J9_EXTENDED_RUNTIME2_ENABLE_CONTINUATION_CACHE_SUMMARY;
@@ -4343,6 +4348,14 @@ processVMArgsFromFirstToLast(J9JavaVM * vm)
 		}
 	}
 
+	{
+		IDATA mapZipFiles = FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XXMAPZIPFILES, NULL);
+		IDATA noMapZipFiles = FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XXNOMAPZIPFILES, NULL);
+		if (mapZipFiles > noMapZipFiles) {
+			vm->extendedRuntimeFlags3 |= J9_EXTENDED_RUNTIME3_MAP_ZIP_FILES;
+		}
+	}
+
 #if defined(J9VM_OPT_JFR)
 	{
 		IDATA flightRecorder = FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XXFLIGHTRECORDER, NULL);
@@ -6712,7 +6725,8 @@ runExitStages(J9JavaVM* vm, J9VMThread* vmThread)
 		j9tty_printf(PORTLIB, "\n\nCache store:                %u", vm->t1CacheHit + vm->t2CacheHit + vm->cacheMiss - vm->cacheFree);
 		j9tty_printf(PORTLIB, "\n     T1 Cache store:            %u", vm->t1CacheHit + vm->t2CacheHit + vm->cacheMiss - vm->cacheFree - vm->t2store);
 		j9tty_printf(PORTLIB, "\n     T2 Cache store:            %u", vm->t2store);
-		j9tty_printf(PORTLIB, "\nCache Freed:                %u\n", vm->cacheFree);
+		j9tty_printf(PORTLIB, "\nCache Freed:                %u", vm->cacheFree);
+		j9tty_printf(PORTLIB, "\n     Oversized Stack Freed:     %u\n", vm->cacheFreeOversizedStack);
 		j9tty_printf(PORTLIB, "\nAvg Cache Stack Size:       %.2f KB\n", (double)vm->totalContinuationStackSize / (vm->t1CacheHit + vm->t2CacheHit + vm->cacheMiss) / 1024);
 	}
 #endif /* JAVA_SPEC_VERSION >= 19 */
@@ -123,6 +123,7 @@ typedef struct J9ZipCacheInternal {
 	J9ZipCacheEntry *entry;
 	IDATA zipFileFd;
 	U_8 zipFileType;
+	struct J9MmapHandle *mmapHandle; /* read-only mapping of the whole zip file, or NULL */
 } J9ZipCacheInternal;
 
 /**
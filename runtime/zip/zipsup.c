@@ -91,6 +91,7 @@ static I_32 getZipEntryUsingDirectory(J9PortLibrary *portLib, J9ZipFile *zipFile
 		const char *fileName, IDATA fileNameLength, BOOLEAN readDataPointer);
 static BOOLEAN isSeekFailure(I_64 seekResult, I_64 expectedValue);
 static BOOLEAN isOutside4Gig(I_64 value);
+static void zip_mapZipFile(J9PortLibrary *portLib, J9ZipFile *zipFile);
 
 #if defined(J9VM_THR_PREEMPTIVE)
 #include "omrthread.h"
@@ -1389,6 +1390,36 @@ finished:
 }
 
 
+/**
+ * Map the zip file behind zipFile->cache read-only so that entry data can be
+ * read from memory instead of through the shared file descriptor.
+ * Failure to map is not an error, the file descriptor is used instead.
+ * The omrthread_global_monitor() must be acquired before calling this function.
+ *
+ * @param[in] portLib the port library
+ * @param[in] zipFile the zip file whose cache should be mapped
+ */
+static void
+zip_mapZipFile(J9PortLibrary *portLib, J9ZipFile *zipFile)
+{
+	PORT_ACCESS_FROM_PORT(portLib);
+	J9ZipCacheInternal *zci = (J9ZipCacheInternal *)zipFile->cache;
+	IDATA fileSize = 0;
+
+	if ((NULL == zci) || (NULL != zci->mmapHandle) || (-1 == zci->zipFileFd)) {
+		return;
+	}
+	if (J9_ARE_NO_BITS_SET(j9mmap_capabilities(), J9PORT_MMAP_CAPABILITY_READ)) {
+		return;
+	}
+	fileSize = zci->entry->zipFileSize;
+	if (fileSize <= 0) {
+		return;
+	}
+	zci->mmapHandle = j9mmap_map_file(zci->zipFileFd, 0, (UDATA)fileSize, (const char *)zipFile->filename, J9PORT_MMAP_FLAG_READ, J9MEM_CATEGORY_VM_JCL);
+}
+
+
 /** 
  * Called to populate an empty cache and install it in the zip cache pool.
  * On error, the zipFile is closed.  The omrthread_global_monitor() must be
@@ -1869,6 +1900,27 @@ I_32 zip_getZipEntryData(J9PortLibrary* portLib, J9ZipFile* zipFile, J9ZipEntry*
 		entry->data = dataBuffer;
 	}
 
+	if ((NULL != zipFile->cache) && (NULL != ((J9ZipCacheInternal *)zipFile->cache)->mmapHandle)) {
+		J9MmapHandle *mmapHandle = ((J9ZipCacheInternal *)zipFile->cache)->mmapHandle;
+		if (((UDATA)entry->dataPointer <= mmapHandle->size)
+			&& ((UDATA)entry->compressedSize <= (mmapHandle->size - (UDATA)entry->dataPointer))
+		) {
+			U_8 *mappedData = (U_8 *)mmapHandle->pointer + entry->dataPointer;
+			if (entry->compressionMethod == ZIP_CM_Stored) {
+				memcpy(dataBuffer, mappedData, entry->compressedSize);
+				EXIT();
+				return 0;
+			}
+			if (entry->compressionMethod == ZIP_CM_Deflated) {
+				/* Inflate straight out of the mapping, no intermediate read buffer is needed. */
+				result = inflateData(&wb, mappedData, entry->compressedSize, dataBuffer, entry->uncompressedSize);
+				if (result) goto finished;
+				EXIT();
+				return 0;
+			}
+		}
+	}
+
 	if(entry->compressionMethod == ZIP_CM_Stored) {
 		IDATA readResult = 0;
 		/* No compression - just read the data in. */
@@ -2247,6 +2299,7 @@ J9HookInterface** zip_getVMZipCachePoolHookInterface(J9ZipCachePool *cachePool)
  * Valid flags are:
  * J9ZIP_OPEN_READ_CACHE_DATA: build a cache of the central directory
  * J9ZIP_OPEN_ALLOW_NONSTANDARD_ZIP: open the file even if it does not start with a local header
+ * J9ZIP_OPEN_MMAP: map the file read-only and read entry data from the mapping (requires a cachePool)
  *
  * 
  * @return 0 on success
@@ -2368,6 +2421,9 @@ zip_openZipFile(J9PortLibrary *portLib, char *filename, J9ZipFile *zipFile, J9Zi
 	if (NULL != cachePool) {
 		result = zip_setupCache(portLib, zipFile, cache, cachePool);
 		fd = zipFile->fd;
+		if ((0 == result) && J9_ARE_ANY_BITS_SET(flags, J9ZIP_OPEN_MMAP)) {
+			zip_mapZipFile(portLib, zipFile);
+		}
 		if ((0 == result) && (TRUE == doReadCacheData)) {
 			result = zip_readCacheData(portLib, zipFile);
 		}
@@ -119,6 +119,11 @@ abstract class Config {
    public boolean noisy() { return _noisy; }
    public void setNoisy(boolean b) { _noisy = b; }
 
+   // threads - how many input files are converted concurrently (default is one at a time)
+   private static int _threads = 1;
+   public int threads() { return _threads; }
+   public void setThreads(int n) { _threads = n; }
+
    // version - whether to print the program version to the terminal or not (default is to write it)
    private static boolean _version = true;
    public boolean version() { return _version; }
@@ -27,6 +27,10 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Vector;
 import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Ron Servant
@@ -86,13 +90,139 @@ abstract class JarPersister {
       return rc;
    }
 	
+    /**
+     * Whether convertJar() may be called for several jar files at the same time.
+     * Persisters that keep per-jar state in fields must leave this false.
+     */
+    protected boolean canConvertConcurrently() { return false; }
+
     public int convertInputFiles (Vector sourceFiles) {
+    	if (config().threads() > 1 && canConvertConcurrently())
+    		return convertInputFilesConcurrently(sourceFiles, config().threads());
+
     	int maxRC = 0;
     	
    		Iterator fileIter = sourceFiles.iterator();
    		while (fileIter.hasNext()) {
    			String fileName = (String) fileIter.next();
+   			Result result = convertInputFile(fileName);
+   			maxRC = mergeRC(maxRC, result);
+   			if (isFatalRC(result.rc))
+   				break;
+   		}
+    	
+   	return maxRC;
+    }
+
+    /*
+     * Convert the input files on a fixed pool of worker threads. The work queue is bounded so
+     * that the caller runs a conversion itself, rather than queuing more, when all workers are busy.
+     * The results are merged in input order once all workers are done, so the return code and any
+     * exception thrown are the ones the sequential conversion would have produced. For that reason
+     * a fatal error only cancels the files after it; the files before it are still converted.
+     */
+    private int convertInputFilesConcurrently (Vector sourceFiles, int threads) {
+    	final Result[] results = new Result[sourceFiles.size()];
+    	final Throwable[] failures = new Throwable[sourceFiles.size()];
+    	/* lowest index of a file whose conversion failed fatally */
+    	final AtomicInteger stopIndex = new AtomicInteger(Integer.MAX_VALUE);
+    	ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+    			new ArrayBlockingQueue<Runnable>(threads * 2), new ThreadPoolExecutor.CallerRunsPolicy());
+
+    	if (config().verbose())
+    		System.out.println("Converting files using " + threads + " threads");
+
+   		for (int i = 0; i < results.length && i < stopIndex.get(); i++) {
+   			final int index = i;
+   			final String fileName = (String) sourceFiles.get(i);
+   			executor.execute(new Runnable() {
+   				public void run() {
+   					if (index > stopIndex.get())
+   						return;
+   					try {
+   						Result result = convertInputFile(fileName);
+   						synchronized (results) {
+   							results[index] = result;
+   						}
+   						if (isFatalRC(result.rc))
+   							stopAt(stopIndex, index);
+   					} catch (RuntimeException e) {
+   						/* the executor would drop it, rethrown below */
+   						synchronized (results) {
+   							failures[index] = e;
+   						}
+   						stopAt(stopIndex, index);
+   					} catch (Error e) {
+   						synchronized (results) {
+   							failures[index] = e;
+   						}
+   						stopAt(stopIndex, index);
+   					}
+   				}
+   			});
+   		}
+
+   		executor.shutdown();
+   		try {
+   			while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+   			}
+   		} catch (InterruptedException e) {
+   			executor.shutdownNow();
+   			Thread.currentThread().interrupt();
+   		}
+
+    	int maxRC = 0;
+   		synchronized (results) {
+   			for (int i = 0; i < results.length; i++) {
+   				if (failures[i] instanceof RuntimeException)
+   					throw (RuntimeException) failures[i];
+   				if (failures[i] instanceof Error)
+   					throw (Error) failures[i];
+   				/* only when interrupted, the conversion stopped here */
+   				if (results[i] == null)
+   					break;
+   				maxRC = mergeRC(maxRC, results[i]);
+   				if (isFatalRC(results[i].rc))
+   					break;
+   			}
+   		}
+   		return maxRC;
+    }
 
+    private static void stopAt(AtomicInteger stopIndex, int index) {
+    	int current = stopIndex.get();
+    	while (index < current && !stopIndex.compareAndSet(current, index))
+    		current = stopIndex.get();
+    }
+
+    /* Outcome of converting one input file */
+    private static class Result {
+    	final int rc;
+    	/* the output file would have overwritten the input file, reported even after another error */
+    	final boolean inputFileError;
+
+    	Result(int rc, boolean inputFileError) {
+    		this.rc = rc;
+    		this.inputFileError = inputFileError;
+    	}
+    }
+
+    /* 21-43 jxeinajar errors/warnings */
+    /* > 100    256-1 , 256-21 jar2jxe errors */
+    /* < 20 jit errors/warnings */
+    private static int mergeRC(int maxRC, Result result) {
+    	if (result.inputFileError)
+    		return Main.inputFileError;
+    	if (result.rc < -20 && maxRC == 0)
+    		return result.rc;
+    	return maxRC;
+    }
+
+    private static boolean isFatalRC(int rc) {
+    	return rc == 152 || rc == 153;
+    }
+
+    private Result convertInputFile (String fileName) {
    			File searchFileDirectory = new File(config().searchPath());
    			String searchDirectory=null;
    			try {
@@ -106,65 +236,51 @@ abstract class JarPersister {
 
    			String outputFileName = null;
    			File outFile = null;
-   			boolean convertFile = true;
    			if (config().outPath() != null) {
    				outFile = new File(config().outPath() + File.separator + relativePath);
    				try {
    					outputFileName = outFile.getCanonicalPath();
    					if (outputFileName.equals(fileName)) {
    						System.out.println("Failure, the input file " +  fileName + " will be overwritten by the new output file " + outputFileName);
-   						maxRC = Main.inputFileError;
-   						convertFile = false;
+   						return new Result(Main.inputFileError, true);
    					}
    				} catch (Exception e) {
-   					convertFile = false;
+   					return new Result(0, false);
    				}
    			}
 
-   			if (convertFile) {
-   				if (config().outPath() != null) {
-   					if (config().TRACE_DEBUG()) {
-   						System.out.println("searchDirectory is " + searchDirectory);
-   						System.out.println("relative path is " + relativePath);
-   					}
-   					outFile.getParentFile().mkdirs();
-   	   				if (config().TRACE_DEBUG())
-   	   					System.out.println("About to process jar file: " + fileName + " into " + outputFileName);
-
-   				} else {
-   					if (config().TRACE_DEBUG())
-   						System.out.println("About to process jar file: " + fileName);
+   			if (config().outPath() != null) {
+   				if (config().TRACE_DEBUG()) {
+   					System.out.println("searchDirectory is " + searchDirectory);
+   					System.out.println("relative path is " + relativePath);
    				}
+   				outFile.getParentFile().mkdirs();
+   	   			if (config().TRACE_DEBUG())
+   	   				System.out.println("About to process jar file: " + fileName + " into " + outputFileName);
+
+   			} else {
+   				if (config().TRACE_DEBUG())
+   					System.out.println("About to process jar file: " + fileName);
+   			}
    				
-   				int rc = convertJar(new File(fileName), outputFileName);
-   				if (rc < -20 || rc == Main.aotCodeCacheOutOfStorage) { /* greater than JIT warning/error codes */
-   					System.out.println("Unable to complete processing jar file " + fileName);
-   					if (rc == Main.aotCodeCacheOutOfStorage) {
-   						System.out.println("Input file " + fileName + " is too big to generate optimized AOT jar file.");
-   						System.out.println("Try splitting it up into several smaller jars.");
-   						rc = Main.jar2JXEOutOfStorage;
-   					}
-   					System.out.println("No processing performed: " + rc);
+   			int rc = convertJar(new File(fileName), outputFileName);
+   			if (rc < -20 || rc == Main.aotCodeCacheOutOfStorage) { /* greater than JIT warning/error codes */
+   				System.out.println("Unable to complete processing jar file " + fileName);
+   				if (rc == Main.aotCodeCacheOutOfStorage) {
+   					System.out.println("Input file " + fileName + " is too big to generate optimized AOT jar file.");
+   					System.out.println("Try splitting it up into several smaller jars.");
+   					rc = Main.jar2JXEOutOfStorage;
    				}
-   				else if (rc == 0 && config().verbose())
-   					System.out.println("No errors while processing jar file " + fileName);
-			   
-   				/* 21-43 jxeinajar errors/warnings */
-   				/* > 100    256-1 , 256-21 jar2jxe errors */
-   				/* < 20 jit errors/warnings */
-   				if (rc < -20 && maxRC == 0)
-   					maxRC = rc;
+   				System.out.println("No processing performed: " + rc);
+   			}
+   			else if (rc == 0 && config().verbose())
+   				System.out.println("No errors while processing jar file " + fileName);
 			   
-   				if (rc == 152) {
-			   		System.out.println("CPU time limit exceeded ");
-			   		break;
-			   	} else if (rc == 153) {
-			   		System.out.println("File size limit exceeded ");
-			   		break;
-			   	}
-		   	}
-   		}
-    	
-   	return maxRC;
+   			if (rc == 152) {
+			   	System.out.println("CPU time limit exceeded ");
+			} else if (rc == 153) {
+			   	System.out.println("File size limit exceeded ");
+			}
+   			return new Result(rc, false);
     }
 }
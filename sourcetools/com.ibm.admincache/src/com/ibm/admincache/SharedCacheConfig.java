@@ -245,6 +245,7 @@ class SharedCacheConfig extends Config {
 			System.out.println("       -aotFilterFile <file>   only methods matching those in file will be AOT compiled and stored into cache");
 			System.out.println("                                 (input file must have been created by -Xjit:verbose={precompile},vlog=<file>)");
 			System.out.println("       -printvmargs            print VM arguments needed to access populated cache at runtime");
+			System.out.println("       -threads <n>            populate up to n jar files into the cache concurrently (default is 1)");
 			System.out.println("       [jar file]*.[jar][zip]  explicit list of jar files to populate into cache");
 			System.out.println("                                 if no files are specified, all files.[jar][zip] in the searchPath will be converted.");
 		}
@@ -297,6 +298,7 @@ class SharedCacheConfig extends Config {
 			      //(arg.equalsIgnoreCase("-classFilter"))     ||
 	              //(arg.equalsIgnoreCase("-classFilterFile")) ||
 			   	  (arg.equalsIgnoreCase("-printAllStatsFile")) ||
+	              (arg.equalsIgnoreCase("-threads"))           ||
 	              (arg.equalsIgnoreCase("-aotFilter"))         ||
 	              (arg.equalsIgnoreCase("-aotFilterFile"))) {
 		   if (!realTimeEnvironment())
@@ -372,6 +374,17 @@ class SharedCacheConfig extends Config {
 			   setClassPath(nextArg);
 		   } else if (arg.equalsIgnoreCase("-printAllStatsFile")) {
 			   setPrintAllStatsFileName(nextArg);
+		   } else if (arg.equalsIgnoreCase("-threads")) {
+			   int threads = 0;
+			   try {
+				   threads = Integer.parseInt(nextArg);
+			   } catch (NumberFormatException e) {
+			   }
+			   if (threads <= 0) {
+				   System.err.println("Invalid number of threads specified: " + nextArg);
+				   return Main.parseArgumentsError;
+			   }
+			   setThreads(threads);
 //		   } else if (arg.equalsIgnoreCase("-classFilter")) {
 //			   setClassFilter(nextArg);
 //		   } else if (arg.equalsIgnoreCase("-classFilterFile")) {
@@ -442,6 +455,11 @@ class SharedCacheConfig extends Config {
 	   if (printVMArgs())
 		   options.add(new String("-printvmargs"));
 	   
+	   if (threads() > 1) {
+		   options.add(new String("-threads"));
+		   options.add(String.valueOf(threads()));
+	   }
+	   
 	   return options;
    }
    
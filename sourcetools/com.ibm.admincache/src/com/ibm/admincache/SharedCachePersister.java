@@ -414,31 +414,39 @@ class SharedCachePersister extends JarPersister {
 		return fileName.substring(0,fileName.indexOf(".class")).replace('/','.');
 		}
 
-	private Vector<Class> _loadedClasses = null;
+	/* State of the jar file being populated, kept per thread so that several jars can be populated concurrently */
+	private static class JarState {
+		Vector<Class> _loadedClasses = new Vector<Class>();
+		URL _url = null;
+		SharedClassURLHelper _helper = null;
+		ZipClassLoader _zcl = null;
+	}
+	
+	private final ThreadLocal<JarState> _jarState = new ThreadLocal<JarState>() {
+		protected JarState initialValue() { return new JarState(); }
+	};
 	
-	URLClassLoader _urlClassLoader = null;
-	URL _url = null;
-	SharedClassURLHelper _helper = null;
-	ZipClassLoader _zcl = null;
+	protected boolean canConvertConcurrently() { return true; }
 	
 	private Class loadClass(String className, boolean compileClassMethods) {
-		if (_helper == null)
+		JarState jarState = _jarState.get();
+		if (jarState._helper == null)
 			return null;
 		
 		Class clazz=null;
 		try {
-			if (_zcl == null) // no zip/jar file to look in, so just try the usual way
+			if (jarState._zcl == null) // no zip/jar file to look in, so just try the usual way
 				clazz = Class.forName(className);
 			else {
-				clazz=_zcl.loadClass(className);
+				clazz=jarState._zcl.loadClass(className);
 			}
 			
 			if (clazz != null) {
-				_helper.storeSharedClass(_url, clazz);
+				jarState._helper.storeSharedClass(jarState._url, clazz);
 				if (sharedCacheConfig().aot()) {
 					if (compileClassMethods) {
 						if (sharedCacheConfig().COMPILE_AFTER_LOADING())
-							_loadedClasses.add(clazz);
+							jarState._loadedClasses.add(clazz);
 						else
 							compileMethods(clazz);
 					}
@@ -542,13 +550,14 @@ class SharedCachePersister extends JarPersister {
 	}
 
 	private JarInputStream setUpJarFile(File file) throws Exception {
-		_url = file.toURL();
+		JarState jarState = _jarState.get();
+		jarState._url = file.toURL();
 		BufferedInputStream bis = new BufferedInputStream(new FileInputStream(file));
 		JarInputStream jis = new JarInputStream(bis);
-		_zcl = new ZipClassLoader(jis);
-		_helper = null;
+		jarState._zcl = new ZipClassLoader(jis);
+		jarState._helper = null;
 		try {
-			_helper = Shared.getSharedClassHelperFactory().getURLHelper (_zcl);
+			jarState._helper = Shared.getSharedClassHelperFactory().getURLHelper (jarState._zcl);
 		} catch (HelperAlreadyDefinedException e) {
 		}
 		return jis;
@@ -601,10 +610,8 @@ class SharedCachePersister extends JarPersister {
 			  System.out.println("");
         }
 
-		if (_loadedClasses == null)
-			_loadedClasses = new Vector<Class>();
-		else
-			_loadedClasses.clear();
+		JarState jarState = _jarState.get();
+		jarState._loadedClasses.clear();
 				
 		try {
 			JarInputStream zis = setUpJarFile(origFile);
@@ -616,7 +623,7 @@ class SharedCachePersister extends JarPersister {
 					System.out.print("Processing: " + ze.getName());
 				
 				if (checkEntryIsClass(ze)) {
-					_zcl.setZipEntry(ze);
+					jarState._zcl.setZipEntry(ze);
 					String className = className(ze.getName());
 					if (matchesClassFilters(className)) {
 						Class clazz = loadClass(className, true);
@@ -640,7 +647,7 @@ class SharedCachePersister extends JarPersister {
 				ze = zis.getNextJarEntry();
 			}
 			
-			_zcl = null;
+			jarState._zcl = null;
 
 			zis.close();
 
@@ -673,7 +680,7 @@ class SharedCachePersister extends JarPersister {
 	}
 	
 	private int compileMethods() {
-	    for (Class clazz: _loadedClasses) {
+	    for (Class clazz: _jarState.get()._loadedClasses) {
 	    	compileMethods(clazz);
        }
 		return 0;
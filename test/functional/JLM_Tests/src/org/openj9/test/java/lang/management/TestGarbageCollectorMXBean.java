@@ -88,6 +88,7 @@ public class TestGarbageCollectorMXBean {
 		attribs.put("MemoryUsed", new AttributeData(Long.TYPE.getName(), true, false, false));
 		attribs.put("TotalMemoryFreed", new AttributeData(Long.TYPE.getName(), true, false, false));
 		attribs.put("TotalCompacts", new AttributeData(Long.TYPE.getName(), true, false, false));
+		attribs.put("MutatorUtilizationHistogram", new AttributeData("[J", true, false, false));
 	}// end static initializer
 
 	private GarbageCollectorMXBean gcb;
@@ -131,6 +132,17 @@ public class TestGarbageCollectorMXBean {
 		AssertJUnit.assertTrue(((com.ibm.lang.management.GarbageCollectorMXBean)gcb).getLastCollectionEndTime() > -1);
 	}
 
+	// Check that the agreed IBM extension operations are present.
+	@Test
+	public final void testGetMutatorUtilizationHistogram() {
+		AssertJUnit.assertTrue(gcb instanceof com.ibm.lang.management.GarbageCollectorMXBean);
+		long[] histogram = ((com.ibm.lang.management.GarbageCollectorMXBean)gcb).getMutatorUtilizationHistogram();
+		AssertJUnit.assertNotNull(histogram);
+		for (long count : histogram) {
+			AssertJUnit.assertTrue(count >= 0);
+		}
+	}
+
 	@Test
 	public final void testGetCollectionCount() {
 		/* Collection Count could be zero */
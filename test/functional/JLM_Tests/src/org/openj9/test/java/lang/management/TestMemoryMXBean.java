@@ -121,6 +121,8 @@ public class TestMemoryMXBean {
 		}
 		attribs.put("MaximumGCThreads", new AttributeData(Integer.TYPE.getName(), true, false, false));
 		attribs.put("CurrentGCThreads", new AttributeData(Integer.TYPE.getName(), true, false, false));
+		attribs.put("ObjectFinalizedCount", new AttributeData(Long.TYPE.getName(), true, false, false));
+		attribs.put("MemoryPressureReleasedBytes", new AttributeData(Long.TYPE.getName(), true, false, false));
 	}// end static initializer
 
 	private ExtendedMemoryMXBeanImpl mb;
@@ -192,6 +194,11 @@ public class TestMemoryMXBean {
 			AssertJUnit.assertTrue(gcMode.length() > 0);
 			logger.debug("GC Mode : " + gcMode);
 
+			Long finalizedCount = (Long)mbs.getAttribute(objName, "ObjectFinalizedCount");
+			AssertJUnit.assertNotNull(finalizedCount);
+			AssertJUnit.assertTrue(finalizedCount > -1);
+			logger.debug("Object finalized count : " + finalizedCount);
+
 			Long sharedCacheSize = (Long)mbs.getAttribute(objName, "SharedClassCacheSize");
 			AssertJUnit.assertNotNull(sharedCacheSize);
 			AssertJUnit.assertTrue(sharedCacheSize > -1);
@@ -740,9 +747,9 @@ public class TestMemoryMXBean {
 		MBeanAttributeInfo[] attributes = mbi.getAttributes();
 		AssertJUnit.assertNotNull(attributes);
 		if (javaVersion >= 16) {
-			AssertJUnit.assertTrue(attributes.length == 24);
+			AssertJUnit.assertTrue(attributes.length == 25);
 		} else {
-			AssertJUnit.assertTrue(attributes.length == 26);
+			AssertJUnit.assertTrue(attributes.length == 27);
 		}
 		for (int i = 0; i < attributes.length; i++) {
 			MBeanAttributeInfo info = attributes[i];
@@ -780,6 +787,44 @@ public class TestMemoryMXBean {
 		AssertJUnit.assertTrue(mb.getObjectPendingFinalizationCount() > -1);
 	}
 
+	@Test
+	public final void testGetObjectFinalizedCount() throws InterruptedException {
+		long initialCount = mb.getObjectFinalizedCount();
+		AssertJUnit.assertTrue(initialCount > -1);
+
+		createFinalizableObject();
+		/* The count is updated after finalize() returns, so poll for it rather than
+		 * relying on runFinalization() alone.
+		 */
+		long finalizedCount = initialCount;
+		for (int i = 0; (i < 50) && (finalizedCount <= initialCount); i++) {
+			System.gc();
+			System.runFinalization();
+			Thread.sleep(100);
+			finalizedCount = mb.getObjectFinalizedCount();
+		}
+		AssertJUnit.assertTrue("ObjectFinalizedCount did not increase: " + finalizedCount,
+				finalizedCount > initialCount);
+	}
+
+	@Test
+	public final void testGetMemoryPressureReleasedBytes() {
+		/* nothing is released unless -XXgc:gcOnMemoryPressureThreshold is set */
+		AssertJUnit.assertTrue(mb.getMemoryPressureReleasedBytes() > -1);
+	}
+
+	private static void createFinalizableObject() {
+		new FinalizableObject();
+	}
+
+	private static final class FinalizableObject {
+		@Override
+		@SuppressWarnings("deprecation")
+		protected void finalize() {
+			/* only needs to be finalizable */
+		}
+	}
+
 	@Test
 	public final void testIsVerbose() {
 		// TODO Set - test - reset - test when VM permits this
@@ -1,6 +1,5 @@
-/*[INCLUDE-IF Sidecar18-SE]*/
 /*
- * Copyright IBM Corp. and others 2008
+ * Copyright IBM Corp. and others 2026
  *
  * This program and the accompanying materials are made available under
  * the terms of the Eclipse Public License 2.0 which accompanies this
@@ -20,40 +19,37 @@
  *
  * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
  */
-package com.ibm.jvm.dtfjview.heapdump;
 
-import java.util.Iterator;
-import java.util.List;
+package org.openj9.test.attachAPI;
 
 /**
- * Reference iterator based on a list of Longs.
- *
- * @author andhall
+ * A TargetVM which keeps allocating from a known method, for testing the allocation site sampler.
  */
-public class LongListReferenceIterator implements ReferenceIterator
-{
-	private final List _data;
-	private Iterator _currentIterator;
+public class AllocatingTargetVM {
 
-	public LongListReferenceIterator(List data)
-	{
-		_data = data;
-		reset();
-	}
+	public static final String ALLOCATING_METHOD = AllocatingTargetVM.class.getName().replace('.', '/') + ".allocate";
 
-	public boolean hasNext()
-	{
-		return _currentIterator.hasNext();
-	}
+	/* keep the last array reachable so the allocation cannot be optimized away */
+	static volatile byte[] lastAllocated;
 
-	public Long next()
-	{
-		return (Long) _currentIterator.next();
+	static void allocate() {
+		lastAllocated = new byte[1024];
 	}
 
-	public void reset()
-	{
-		_currentIterator = _data.iterator();
+	/**
+	 * @param args passed to TargetVM
+	 */
+	public static void main(String[] args) {
+		Thread allocator = new Thread("AllocatingTargetVM allocator") {
+			@Override
+			public void run() {
+				for (;;) {
+					allocate();
+				}
+			}
+		};
+		allocator.setDaemon(true);
+		allocator.start();
+		TargetVM.main(args);
 	}
-
 }
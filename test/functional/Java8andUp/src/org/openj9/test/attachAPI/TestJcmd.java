@@ -62,14 +62,15 @@ public class TestJcmd extends AttachApiTest {
 	private static final String DUMP_JAVA = "Dump.java";
 	private static final String DUMP_SNAP = "Dump.snap";
 	private static final String DUMP_SYSTEM = "Dump.system";
+	private static final String GC_ALLOCATION_SITES = "GC.allocation_sites";
 	private static final String GC_CLASS_HISTOGRAM = "GC.class_histogram";
 	private static final String GC_HEAP_DUMP = "GC.heap_dump";
 	private static final String GC_RUN = "GC.run";
 	private static final String HELP_COMMAND = "help";
 	private static final String THREAD_PRINT = "Thread.print";
 	private static String[] JCMD_COMMANDS = {DUMP_HEAP, DUMP_JAVA, DUMP_SNAP,
-		DUMP_SYSTEM, GC_CLASS_HISTOGRAM, GC_HEAP_DUMP, GC_RUN, HELP_COMMAND, THREAD_PRINT};
-	private static String[] JCMD_COMMANDS_REQUIRE_OPTION = {GC_CLASS_HISTOGRAM, GC_RUN, HELP_COMMAND, THREAD_PRINT};
+		DUMP_SYSTEM, GC_ALLOCATION_SITES, GC_CLASS_HISTOGRAM, GC_HEAP_DUMP, GC_RUN, HELP_COMMAND, THREAD_PRINT};
+	private static String[] JCMD_COMMANDS_REQUIRE_OPTION = {GC_ALLOCATION_SITES, GC_CLASS_HISTOGRAM, GC_RUN, HELP_COMMAND, THREAD_PRINT};
 	private static String[] JCMD_COMMANDS_DUMP = {DUMP_HEAP, DUMP_JAVA, DUMP_SNAP, DUMP_SYSTEM, GC_HEAP_DUMP};
 
 	/*
@@ -200,6 +201,35 @@ public class TestJcmd extends AttachApiTest {
 		log(EXPECTED_STRING_FOUND);
 	}
 
+	@Test
+	public void testAllocationSites() throws IOException, InterruptedException {
+		TargetManager tgt = new TargetManager(AllocatingTargetVM.class.getCanonicalName(), null,
+				Collections.singletonList("-Xgc:allocationSiteSampling=4k"), Collections.emptyList());
+		tgt.syncWithTarget();
+		String targetId = tgt.targetId;
+		assertNotNull(targetId, ERROR_TARGET_NOT_LAUNCH);
+		try {
+			List<String> args = new ArrayList<>();
+			args.add(targetId);
+			args.add(GC_ALLOCATION_SITES);
+			String expectedString = "[B at " + AllocatingTargetVM.ALLOCATING_METHOD;
+			log("Expected string: " + expectedString);
+			boolean isPresent = false;
+			/* give the allocating thread time to be sampled */
+			for (int retry = 0; !isPresent && (retry < 3); ++retry) {
+				if (retry > 0) {
+					Thread.sleep(1000);
+				}
+				List<String> jcmdOutput = runCommandAndLogOutput(args);
+				isPresent = StringUtilities.searchSubstring(expectedString, jcmdOutput).isPresent();
+			}
+			assertTrue(isPresent, ERROR_EXPECTED_STRING_NOT_FOUND + " in jcmd output: " + expectedString);
+			log(EXPECTED_STRING_FOUND);
+		} finally {
+			tgt.terminateTarget();
+		}
+	}
+
 	@Test
 	public void testDumps() throws IOException {
 		List<String[]> commandsAndDumpTypesList = new ArrayList<String[]>();
@@ -412,6 +442,8 @@ public class TestJcmd extends AttachApiTest {
 		getJdkUtilityPath(JCMD_COMMAND);
 		commandExpectedOutputs = new HashMap<>();
 		commandExpectedOutputs.put(HELP_COMMAND, THREAD_PRINT);
+		/* the target VM is not started with -Xgc:allocationSiteSampling */
+		commandExpectedOutputs.put(GC_ALLOCATION_SITES, "Allocation site sampling is not enabled");
 		commandExpectedOutputs.put(GC_CLASS_HISTOGRAM, "java.util.HashMap");
 		commandExpectedOutputs.put(GC_RUN, "Command succeeded");
 		commandExpectedOutputs.put(THREAD_PRINT, "Attach API wait loop");
@@ -0,0 +1,89 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.tests.garbagecollector;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This test creates the specified number of finalizable objects and checks that every one of them is finalized.
+ * It is run with several finalize worker threads (-Xgc:finalizeWorkerThreads) to check that the workers drain
+ * the finalize lists together without losing or repeating any object.
+ */
+public class FinalizeWorkers
+{
+	static final AtomicInteger _finalizedCount = new AtomicInteger();
+	static final Set<Thread> _finalizerThreads = ConcurrentHashMap.newKeySet();
+
+	static final class Finalizable
+	{
+		@Override
+		@SuppressWarnings("deprecation")
+		protected void finalize()
+		{
+			_finalizerThreads.add(Thread.currentThread());
+			_finalizedCount.incrementAndGet();
+		}
+	}
+
+	/**
+	 * @param args Takes one argument:  number of finalizable objects to create.  It must be in the range [1-1000000]
+	 */
+	public static void main(String[] args) throws InterruptedException
+	{
+		if (1 != args.length)
+		{
+			System.err.println("Missing argument for the number of objects.  Please specify the number of finalizable objects to create (in the range [1-1000000]).");
+			System.exit(1);
+		}
+		int objectCount = Integer.parseInt(args[0]);
+		if ((objectCount < 1) || (objectCount > 1000000))
+		{
+			System.err.println("Invalid option given for the number of objects (" + objectCount + ").  Value given must be in the range [1-1000000].");
+			System.exit(2);
+		}
+
+		for (int i = 0; i < objectCount; i++)
+		{
+			new Finalizable();
+		}
+		for (int i = 0; (i < 60) && (_finalizedCount.get() < objectCount); i++)
+		{
+			System.gc();
+			System.runFinalization();
+			Thread.sleep(100);
+		}
+
+		int finalizedCount = _finalizedCount.get();
+		System.out.println("Finalized " + finalizedCount + " of " + objectCount + " objects on " + _finalizerThreads.size() + " finalizer threads");
+		if (finalizedCount == objectCount)
+		{
+			System.out.println("Test ran to completion");
+		}
+		else
+		{
+			System.out.println("Test failed: " + ((finalizedCount < objectCount) ? "some objects were not finalized" : "some objects were finalized more than once"));
+			System.exit(3);
+		}
+	}
+}
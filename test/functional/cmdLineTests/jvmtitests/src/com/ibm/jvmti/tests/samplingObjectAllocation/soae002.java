@@ -0,0 +1,114 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.jvmti.tests.samplingObjectAllocation;
+
+import java.lang.reflect.Method;
+
+/**
+ * Run with -Xgc:allocationSiteSampling and
+ * --add-opens java.base/openj9.internal.tools.attach.target=ALL-UNNAMED
+ */
+public class soae002 {
+	private final static int ALLOCATION_SIZE = 1024;
+	private final static int ALLOCATION_COUNT = 64 * 1024; /* 64 MB in total */
+	private final static String ALLOCATING_METHOD = soae002.class.getName().replace('.', '/') + ".allocate";
+
+	private native static int enable(int samplingInterval);	/* set the heap sampling interval and enable event JVMTI_EVENT_SAMPLED_OBJECT_ALLOC */
+	private native static int disable();	/* disable event JVMTI_EVENT_SAMPLED_OBJECT_ALLOC */
+	private native static int check();	/* check how many times the event callback was invoked */
+
+	private static Object lastAllocated;
+
+	private static void allocate() {
+		for (int i = 0; i < ALLOCATION_COUNT; ++i) {
+			lastAllocated = new byte[ALLOCATION_SIZE];
+		}
+	}
+
+	private static String getAllocationSites() throws Exception {
+		Class<?> diagnosticUtils = Class.forName("openj9.internal.tools.attach.target.DiagnosticUtils");
+		Method getAllocationSitesImpl = diagnosticUtils.getDeclaredMethod("getAllocationSitesImpl");
+		getAllocationSitesImpl.setAccessible(true);
+		return (String) getAllocationSitesImpl.invoke(null);
+	}
+
+	private static long getSampleCount(String sites) {
+		/* "<num> <samples> <sampled size> <estimated size>    [B at <method>..." */
+		for (String line : sites.split("\n")) {
+			if (line.contains("[B at " + ALLOCATING_METHOD)) {
+				return Long.parseLong(line.trim().split("\\s+")[1]);
+			}
+		}
+		return 0;
+	}
+
+	public boolean testSamplerKeepsSamplingAfterDisable() throws Exception {
+		String sites = getAllocationSites();
+		if (sites.contains("not enabled")) {
+			System.out.println("The allocation site sampler is not enabled: " + sites);
+			return false;
+		}
+
+		/* sample every allocation through JVMTI, the sampler must keep recording per its own interval */
+		if (0 != enable(0)) {
+			System.out.println("com.ibm.jvmti.tests.samplingObjectAllocation.soae002.enable(0) failed");
+			return false;
+		}
+		allocate();
+		if (0 != disable()) {
+			System.out.println("com.ibm.jvmti.tests.samplingObjectAllocation.soae002.disable() failed");
+			return false;
+		}
+		int events = check();
+		if (events <= 0) {
+			System.out.println("No JVMTI events were reported while the event was enabled");
+			return false;
+		}
+		long samplesWhileEnabled = getSampleCount(getAllocationSites());
+		if (samplesWhileEnabled <= 0) {
+			System.out.println("No samples recorded while JVMTI sampling was enabled: " + getAllocationSites());
+			return false;
+		}
+		if (samplesWhileEnabled >= events) {
+			System.out.println("The sampler recorded a sample per JVMTI event: " + samplesWhileEnabled);
+			return false;
+		}
+
+		/* disabling JVMTI sampling must not stop the sampler */
+		allocate();
+		if (check() != events) {
+			System.out.println("JVMTI events were reported after the event was disabled");
+			return false;
+		}
+		sites = getAllocationSites();
+		long samplesAfterDisable = getSampleCount(sites);
+		if (samplesAfterDisable <= samplesWhileEnabled) {
+			System.out.println("No samples recorded after JVMTI sampling was disabled: " + sites);
+			return false;
+		}
+		return true;
+	}
+
+	public String helpSamplerKeepsSamplingAfterDisable() {
+		return "Test that the GC allocation site sampler keeps sampling at its own interval while JVMTI sampled object allocation events are enabled and after they are disabled.";
+	}
+}